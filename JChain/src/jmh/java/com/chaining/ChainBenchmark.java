@@ -0,0 +1,87 @@
+package com.chaining;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * measures the {@link Chain} steps that used to create a {@link Proxy} for every
+ * {@link Condition} and {@link Guard}, with the {@code gc} profiler the
+ * {@code gc.alloc.rate.norm} shows the bytes allocated per chain
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChainBenchmark {
+
+    private final Integer item = 1000;
+
+    private final Predicate<Integer> isPositive = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer item) {
+            return item > 0;
+        }
+    };
+
+    private final Consumer<Integer> ignoreItem = new Consumer<Integer>() {
+        @Override
+        public void accept(Integer item) {
+        }
+    };
+
+    private final Consumer<Integer> crash = new Consumer<Integer>() {
+        @Override
+        public void accept(Integer item) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    private final Function<Throwable, Integer> fallback = new Function<Throwable, Integer>() {
+        @Override
+        public Integer apply(Throwable error) {
+            return 0;
+        }
+    };
+
+    @Benchmark
+    public Integer whenThen() {
+        return Chain.let(item)
+                .when(isPositive)
+                .then(ignoreItem)
+                .call();
+    }
+
+    private final Function<Integer, Integer> whenThenPlan = ChainPlan.<Integer>start()
+            .when(isPositive).then(ignoreItem)
+            .compile();
+
+    @Benchmark
+    public Integer whenThenPlan() throws Exception {
+        return whenThenPlan.apply(item);
+    }
+
+    @Benchmark
+    public Integer guardOnErrorReturn() {
+        return Chain.let(item)
+                .guard(ignoreItem)
+                .onErrorReturn(fallback)
+                .call();
+    }
+
+    @Benchmark
+    public Integer guardCrashOnErrorReturn() {
+        return Chain.let(item)
+                .guard(crash)
+                .onErrorReturn(fallback)
+                .call();
+    }
+}
@@ -0,0 +1,103 @@
+package com.chaining;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * compares the same pipeline executed through a new {@link Chain} per item, through
+ * {@link ChainPlan#compile()}, through the stages loop that {@link ChainPlan#compile()} falls
+ * back to without {@link MethodHandle}, and through the {@link ChainPlan#toMethodHandle()}
+ * handle tree as a {@code static final} constant that the JIT compiler can inline
+ * <p>
+ * the differences are a few nanoseconds, so run it with at least {@code -f 5 -wi 10 -i 10},
+ * with fewer forks the error of every score was larger than the differences between them
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChainPlanBenchmark {
+
+    private static final Function<Integer, Integer> INCREMENT = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer item) {
+            return item + 1;
+        }
+    };
+
+    private static final Predicate<Integer> IS_EVEN = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer item) {
+            return (item & 1) == 0;
+        }
+    };
+
+    private static final Consumer<Integer> IGNORE = new Consumer<Integer>() {
+        @Override
+        public void accept(Integer item) {
+        }
+    };
+
+    private static final Function<Integer, Integer> HALF = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer item) {
+            return item / 2;
+        }
+    };
+
+    private static final Function<Throwable, Integer> FALLBACK =
+            new Function<Throwable, Integer>() {
+                @Override
+                public Integer apply(Throwable error) {
+                    return 0;
+                }
+            };
+
+    private static final ChainPlan<Integer, Integer> PLAN = ChainPlan.<Integer>start()
+            .map(INCREMENT)
+            .when(IS_EVEN).then(IGNORE)
+            .map(HALF)
+            .guardMap(INCREMENT).onErrorReturn(FALLBACK);
+
+    private static final MethodHandle CONSTANT_HANDLE = PLAN.toMethodHandle();
+
+    private final Function<Integer, Integer> compiled = PLAN.compile();
+    private final Function<Integer, Integer> stagesLoop = PLAN.compileStages();
+
+    private int item;
+
+    @Benchmark
+    public Integer chain() {
+        return Chain.let(++item & 1023)
+                .map(INCREMENT)
+                .when(IS_EVEN).then(IGNORE)
+                .map(HALF)
+                .guardMap(INCREMENT).onErrorReturn(FALLBACK)
+                .call();
+    }
+
+    @Benchmark
+    public Integer compiledPlan() throws Exception {
+        return compiled.apply(++item & 1023);
+    }
+
+    @Benchmark
+    public Integer stagesLoopPlan() throws Exception {
+        return stagesLoop.apply(++item & 1023);
+    }
+
+    @Benchmark
+    public Object constantMethodHandle() throws Throwable {
+        return CONSTANT_HANDLE.invokeExact((Object) (++item & 1023));
+    }
+}
@@ -0,0 +1,82 @@
+package com.chaining;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Consumer;
+
+/**
+ * measures the {@link Collector} iteration paths, with the {@code gc} profiler the
+ * {@code gc.alloc.rate.norm} of {@link #forEach(Blackhole)} and {@link #reduce()} should stay
+ * near zero whatever the {@link #size} is, as no RxJava objects are created per call, and
+ * {@link #collect()} should allocate only the collected chunks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollectorBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    int size;
+
+    private List<Integer> source;
+    private Collector<Integer> collector;
+
+    private final BiFunction<Integer, Integer, Integer> max =
+            new BiFunction<Integer, Integer, Integer>() {
+                @Override
+                public Integer apply(Integer left, Integer right) {
+                    return left >= right ? left : right;
+                }
+            };
+
+    @Setup
+    public void setup() {
+        source = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source.add(i & 127);
+        }
+        collector = Chain.let(source).collect(Integer.class);
+    }
+
+    @Benchmark
+    public Collector<Integer> collect() {
+        return Chain.let(source).collect(Integer.class);
+    }
+
+    @Benchmark
+    public Collector<Integer> forEach(final Blackhole blackhole) {
+        return collector.forEach(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer item) {
+                blackhole.consume(item);
+            }
+        });
+    }
+
+    @Benchmark
+    public Integer reduce() {
+        return collector.reduce(max).call();
+    }
+
+    @Benchmark
+    public Collector<Integer> and() {
+        Collector<Integer> result = collector;
+        for (int i = 0; i < 32; i++) {
+            result = result.and(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+package com.chaining;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * compares the {@link LazyMode} values, {@link #contendedCall()} reads one shared initialized
+ * {@link Lazy} from 8 threads, which is the common case for shared singletons and should cost
+ * the same as a volatile read for every mode, and {@link #initialize()} measures the first
+ * {@link Lazy#call()} of a new {@link Lazy}, where the in-flight marker of
+ * {@link LazyMode#SYNCHRONIZED} and the compare-and-set of {@link LazyMode#PUBLICATION} are paid
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LazyBenchmark {
+
+    private static final Callable<Object> INITIALIZER = new Callable<Object>() {
+        @Override
+        public Object call() {
+            return new Object();
+        }
+    };
+
+    @Param({"SYNCHRONIZED", "PUBLICATION", "NONE"})
+    LazyMode mode;
+
+    private Lazy<Object> shared;
+
+    @Setup
+    public void setup() {
+        shared = Lazy.defer(INITIALIZER, mode);
+        shared.call();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object contendedCall() {
+        return shared.call();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object initialize() {
+        return Lazy.defer(INITIALIZER, mode).call();
+    }
+}
@@ -0,0 +1,354 @@
+package com.chaining;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import io.reactivex.annotations.NonNull;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * an asynchronous {@link Chain}, that is started through
+ * {@link Chain#async(Callable, Executor)}, every stage is executed when the previous stage is
+ * completed, without blocking the thread that builds the chain :
+ * <ul>
+ * <li>{@link #map(Function)}, {@link #apply(Consumer)} and {@link #when(Predicate)} are executed
+ * on the thread that completed the previous stage, which suits short CPU-bound stages</li>
+ * <li>{@link #mapAsync(Function, Executor)} and {@link #applyAsync(Consumer, Executor)} are
+ * executed on the passed {@link Executor}, so I/O-bound and CPU-bound stages can run on
+ * different pools</li>
+ * </ul>
+ * a mapper that may crash can be guarded through {@link #guardMap(Function)}, and if a stage
+ * crashed, the next stages are skipped until {@link #onErrorReturn(Function)} or
+ * {@link #onErrorReturnItem(Object)} provides a fallback item, and {@link #join()} throws the
+ * {@link Exception} converted to a {@link RuntimeException} the same way {@link Chain} does
+ *
+ * @param <T> the type of the item
+ */
+public class AsyncChain<T> {
+
+    private final Promise<T> promise;
+
+    private AsyncChain(Promise<T> promise) {
+        this.promise = promise;
+    }
+
+    static <T> AsyncChain<T> call(final Callable<T> callable, Executor executor) {
+        final Promise<T> promise = new Promise<>();
+        promise.execute(executor, new Runnable() {
+            @Override
+            public void run() {
+                if (promise.isDone()) {
+                    return;
+                }
+                try {
+                    promise.succeed(callable.call());
+                } catch (Throwable e) {
+                    promise.fail(e);
+                }
+            }
+        });
+        return new AsyncChain<>(promise);
+    }
+
+    /**
+     * convert the item when it is available, on the thread that completed the previous stage
+     *
+     * @param mapper the mapper {@link Function}
+     * @param <R>    the type of the mapped item
+     * @return a new {@link AsyncChain} that will hold the mapped item
+     */
+    public <R> AsyncChain<R> map(@NonNull Function<T, R> mapper) {
+        return next(mapper, null);
+    }
+
+    /**
+     * convert the item when it is available, on the passed {@link Executor}
+     *
+     * @param mapper   the mapper {@link Function}
+     * @param executor the {@link Executor} that will invoke the mapper
+     * @param <R>      the type of the mapped item
+     * @return a new {@link AsyncChain} that will hold the mapped item
+     */
+    public <R> AsyncChain<R> mapAsync(@NonNull Function<T, R> mapper,
+                                      @NonNull Executor executor) {
+        return next(mapper, executor);
+    }
+
+    /**
+     * invoke an action on the item when it is available, on the thread that completed the
+     * previous stage
+     *
+     * @param action the {@link Consumer} to invoke
+     * @return a new {@link AsyncChain} that will hold the same item after the action is invoked
+     */
+    public AsyncChain<T> apply(@NonNull Consumer<T> action) {
+        return next(new ApplyFunction<>(action), null);
+    }
+
+    /**
+     * invoke an action on the item when it is available, on the passed {@link Executor}
+     *
+     * @param action   the {@link Consumer} to invoke
+     * @param executor the {@link Executor} that will invoke the action
+     * @return a new {@link AsyncChain} that will hold the same item after the action is invoked
+     */
+    public AsyncChain<T> applyAsync(@NonNull Consumer<T> action, @NonNull Executor executor) {
+        return next(new ApplyFunction<>(action), executor);
+    }
+
+    /**
+     * start a conditional stage, that will be added when {@link AsyncCondition#then(Consumer)}
+     * is invoked, similar to {@link Chain#when(Predicate)}
+     *
+     * @param predicate the {@link Predicate} that decides weather the next stage is invoked
+     * @return an {@link AsyncCondition} to set the conditional stage
+     */
+    public AsyncCondition<T> when(@NonNull Predicate<T> predicate) {
+        return new AsyncCondition<>(this, predicate, false);
+    }
+
+    /**
+     * start a conditional stage, that will be added when {@link AsyncCondition#then(Consumer)}
+     * is invoked, similar to {@link Chain#whenNot(Predicate)}
+     *
+     * @param predicate the {@link Predicate} that decides weather the next stage is invoked
+     * @return an {@link AsyncCondition} to set the conditional stage
+     */
+    public AsyncCondition<T> whenNot(@NonNull Predicate<T> predicate) {
+        return new AsyncCondition<>(this, predicate, true);
+    }
+
+    /**
+     * start a stage that converts the item through a mapper that may crash, the stage is added
+     * when {@link AsyncGuard#onErrorReturn(Function)} or
+     * {@link AsyncGuard#onErrorReturnItem(Object)} is invoked, similar to
+     * {@link Chain#guardMap(Function)}, the fallback handles only the crash of this mapper, while
+     * the crash of a previous stage still skips this stage
+     *
+     * @param mapper the mapper {@link Function} that may crash
+     * @param <R>    the type of the mapped item
+     * @return an {@link AsyncGuard} to set the fallback
+     */
+    public <R> AsyncGuard<T, R> guardMap(@NonNull Function<T, R> mapper) {
+        return new AsyncGuard<>(this, mapper);
+    }
+
+    private <R> AsyncChain<R> next(final Function<T, R> stage, final Executor executor) {
+        final Promise<R> next = new Promise<>(promise);
+        promise.onComplete(new Runnable() {
+            @Override
+            public void run() {
+                if (!promise.isSucceeded()) {
+                    next.fail(promise.error());
+                } else if (executor == null) {
+                    runStage(stage, promise.result(), next);
+                } else {
+                    next.execute(executor, new Runnable() {
+                        @Override
+                        public void run() {
+                            runStage(stage, promise.result(), next);
+                        }
+                    });
+                }
+            }
+        });
+        return new AsyncChain<>(next);
+    }
+
+    private static <T, R> void runStage(Function<T, R> stage, T item, Promise<R> next) {
+        if (next.isDone()) {
+            return;
+        }
+        try {
+            next.succeed(stage.apply(item));
+        } catch (Throwable e) {
+            next.fail(e);
+        }
+    }
+
+    /**
+     * provide a fallback item if one of the previous stages crashed
+     *
+     * @param function the {@link Function} that takes the error and returns the fallback item
+     * @return a new {@link AsyncChain} that will hold the item, or the fallback item
+     */
+    public AsyncChain<T> onErrorReturn(@NonNull final Function<Throwable, T> function) {
+        final Promise<T> next = new Promise<>(promise);
+        promise.onComplete(new Runnable() {
+            @Override
+            public void run() {
+                if (promise.isSucceeded()) {
+                    next.succeed(promise.result());
+                } else {
+                    runStage(function, promise.error(), next);
+                }
+            }
+        });
+        return new AsyncChain<>(next);
+    }
+
+    /**
+     * provide a fallback item if one of the previous stages crashed
+     *
+     * @param item the fallback item
+     * @return a new {@link AsyncChain} that will hold the item, or the fallback item
+     */
+    public AsyncChain<T> onErrorReturnItem(final T item) {
+        return onErrorReturn(new Function<Throwable, T>() {
+            @Override
+            public T apply(Throwable error) {
+                return item;
+            }
+        });
+    }
+
+    /**
+     * block the current thread until all the stages are completed
+     *
+     * @return the item after the last stage
+     * @throws RuntimeException      if one of the stages crashed, a checked {@link Exception}
+     *                               is wrapped in a {@link RuntimeException}
+     * @throws CancellationException if the {@link Future} of {@link #toFuture()} was cancelled
+     */
+    public T join() {
+        try {
+            return promise.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw InternalInvoker.toRuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable error = e.getCause();
+            if (error instanceof Error) {
+                throw (Error) error;
+            } else if (error instanceof Exception) {
+                throw InternalInvoker.toRuntimeException((Exception) error);
+            } else {
+                throw new RuntimeException(error);
+            }
+        }
+    }
+
+    /**
+     * get a {@link Future} that completes when all the stages are completed, cancelling it
+     * cancels the stages of this {@link AsyncChain} up to the first stage that other
+     * {@link AsyncChain} branches depend on as well, so the stages that did not start yet are
+     * skipped, while the shared stages keep running for the other branches, and a running stage
+     * is not interrupted
+     *
+     * @return a {@link Future} of the item after the last stage
+     */
+    public Future<T> toFuture() {
+        return promise;
+    }
+
+    /**
+     * a conditional stage that is not complete yet, similar to {@link Condition}
+     *
+     * @param <T> the type of the item
+     */
+    public static class AsyncCondition<T> {
+
+        private final AsyncChain<T> source;
+        private final Predicate<T> predicate;
+        private final boolean negateExpression;
+
+        private AsyncCondition(AsyncChain<T> source,
+                               Predicate<T> predicate,
+                               boolean negateExpression) {
+            this.source = source;
+            this.predicate = predicate;
+            this.negateExpression = negateExpression;
+        }
+
+        /**
+         * invoke the passed action if the {@link Predicate} accepted the item, on the thread
+         * that completed the previous stage
+         *
+         * @param action the {@link Consumer} to invoke
+         * @return a new {@link AsyncChain} that will hold the same item
+         */
+        public AsyncChain<T> then(@NonNull final Consumer<T> action) {
+            return source.next(new Function<T, T>() {
+                @Override
+                public T apply(T item) throws Exception {
+                    if (predicate.test(item) != negateExpression) {
+                        action.accept(item);
+                    }
+                    return item;
+                }
+            }, null);
+        }
+    }
+
+    /**
+     * a guarded stage that is not complete yet, similar to {@link Guard}
+     *
+     * @param <T> the type of the item
+     * @param <R> the type of the mapped item
+     */
+    public static class AsyncGuard<T, R> {
+
+        private final AsyncChain<T> source;
+        private final Function<T, R> mapper;
+
+        private AsyncGuard(AsyncChain<T> source, Function<T, R> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        /**
+         * add the guarded stage, if the mapper crashed, the passed {@link Function} takes the
+         * error and returns the fallback item
+         *
+         * @param fallback the {@link Function} that returns the fallback item
+         * @return a new {@link AsyncChain} that will hold the mapped item, or the fallback item
+         */
+        public AsyncChain<R> onErrorReturn(@NonNull final Function<Throwable, R> fallback) {
+            return source.next(new Function<T, R>() {
+                @Override
+                public R apply(T item) throws Exception {
+                    try {
+                        return mapper.apply(item);
+                    } catch (Exception e) {
+                        return fallback.apply(e);
+                    }
+                }
+            }, null);
+        }
+
+        /**
+         * add the guarded stage, if the mapper crashed, the passed item is used instead
+         *
+         * @param item the fallback item
+         * @return a new {@link AsyncChain} that will hold the mapped item, or the fallback item
+         */
+        public AsyncChain<R> onErrorReturnItem(final R item) {
+            return onErrorReturn(new Function<Throwable, R>() {
+                @Override
+                public R apply(Throwable error) {
+                    return item;
+                }
+            });
+        }
+    }
+
+    private static class ApplyFunction<T> implements Function<T, T> {
+
+        private final Consumer<T> action;
+
+        ApplyFunction(Consumer<T> action) {
+            this.action = action;
+        }
+
+        @Override
+        public T apply(T item) throws Exception {
+            action.accept(item);
+            return item;
+        }
+    }
+}
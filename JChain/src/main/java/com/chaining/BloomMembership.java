@@ -0,0 +1,170 @@
+package com.chaining;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * a {@link Membership} for very large collections, that keeps a Bloom filter (stored in a
+ * {@code long[]} bit-set) in front of a compact exact index, if the Bloom filter says that an
+ * item is not in the collection, the check ends immediately, else the item is looked up in an
+ * array of the items sorted by their {@link Object#hashCode()}, and compared through
+ * {@link Object#equals(Object)}, so the result is always exact
+ * <p>
+ * this is intended for {@link Chain#whenNotIn(Membership)} checks against block-lists with
+ * millions of items, where most of the checked items are not in the block-list, and where a
+ * {@link java.util.HashSet} costs too much memory, use {@link #footprintBytes()} to see the
+ * memory used by the index
+ * <p>
+ * create it through {@link Chain#bloomMembership(Collection, double)}
+ *
+ * @param <T> the type of the items
+ */
+public final class BloomMembership<T> extends Membership<T> {
+
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final double LN_2 = Math.log(2);
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final int[] sortedHashes;
+    private final Object[] sortedItems;
+
+    BloomMembership(Collection<T> collection, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+
+        Object[] items = collection == null ? new Object[0] : collection.toArray();
+        long[] hashAndIndex = hashAndIndex(items);
+        int size = hashAndIndex.length;
+        this.bitCount = optimalBitCount(size, falsePositiveRate);
+        this.hashFunctions = optimalHashFunctions(size, bitCount);
+        this.bits = new long[(int) ((bitCount + 63) >>> 6)];
+        this.sortedHashes = new int[size];
+        this.sortedItems = new Object[size];
+
+        Arrays.sort(hashAndIndex);
+        for (int i = 0; i < size; i++) {
+            int hash = (int) (hashAndIndex[i] >> 32);
+            sortedHashes[i] = hash;
+            sortedItems[i] = items[(int) hashAndIndex[i]];
+            put(hash);
+        }
+    }
+
+    /**
+     * pack the hash code of every non-{@code null} item in the high 32 bits, and it's index in
+     * the array in the low 32 bits, so sorting the packed values sorts the items by hash
+     */
+    private static long[] hashAndIndex(Object[] items) {
+        long[] packed = new long[items.length];
+        int size = 0;
+        for (int index = 0; index < items.length; index++) {
+            if (items[index] != null) {
+                packed[size++] = ((long) items[index].hashCode() << 32) | index;
+            }
+        }
+        return size == packed.length ? packed : Arrays.copyOf(packed, size);
+    }
+
+    private static long optimalBitCount(int size, double falsePositiveRate) {
+        long bitCount = (long) Math.ceil(-Math.max(size, 1) * Math.log(falsePositiveRate)
+                / (LN_2 * LN_2));
+        return Math.max(64, bitCount);
+    }
+
+    private static int optimalHashFunctions(int size, long bitCount) {
+        return Math.max(1, (int) Math.round((double) bitCount / Math.max(size, 1) * LN_2));
+    }
+
+    private void put(int hash) {
+        long hash64 = mix(hash);
+        int firstHash = (int) hash64;
+        int secondHash = (int) (hash64 >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = ((firstHash + (long) i * secondHash) & Long.MAX_VALUE) % bitCount;
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private boolean mightContain(int hash) {
+        long hash64 = mix(hash);
+        int firstHash = (int) hash64;
+        int secondHash = (int) (hash64 >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = ((firstHash + (long) i * secondHash) & Long.MAX_VALUE) % bitCount;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * the 64 bit finalizer of MurmurHash3, spreads the bits of the 32 bit hash code
+     */
+    private static long mix(int hash) {
+        long mixed = hash;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xff51afd7ed558ccdL;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xc4ceb9fe1a85ec53L;
+        mixed ^= mixed >>> 33;
+        return mixed;
+    }
+
+    @Override
+    boolean containsNonNull(T item) {
+        int hash = item.hashCode();
+        return mightContain(hash) && isSortedItem(hash, item);
+    }
+
+    private boolean isSortedItem(int hash, T item) {
+        int index = Arrays.binarySearch(sortedHashes, hash);
+        if (index < 0) {
+            return false;
+        }
+        while (index > 0 && sortedHashes[index - 1] == hash) {
+            index--;
+        }
+        for (; index < sortedHashes.length && sortedHashes[index] == hash; index++) {
+            if (item.equals(sortedItems[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * get the approximate number of bytes used by this index, which is the Bloom filter
+     * bit-set, the sorted hash codes and the references to the items, assuming compressed
+     * references, the memory of the items themselves is not included
+     *
+     * @return the approximate memory footprint in bytes
+     */
+    public long footprintBytes() {
+        return ARRAY_HEADER_BYTES + (long) bits.length * 8
+                + ARRAY_HEADER_BYTES + (long) sortedHashes.length * 4
+                + ARRAY_HEADER_BYTES + (long) sortedItems.length * REFERENCE_BYTES;
+    }
+
+    /**
+     * get the number of bits in the Bloom filter
+     *
+     * @return the number of bits
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * get the number of hash functions used by the Bloom filter
+     *
+     * @return the number of hash functions
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+}
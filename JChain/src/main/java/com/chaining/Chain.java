@@ -6,16 +6,18 @@ import com.chaining.interfaces.DefaultIfEmpty;
 import com.chaining.interfaces.Functor;
 import com.chaining.interfaces.Monad;
 import com.functional.curry.Curry;
-import com.functional.curry.Invoker;
 
 import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Triplet;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 import io.reactivex.Maybe;
-import io.reactivex.Observable;
 import io.reactivex.annotations.NonNull;
 import io.reactivex.annotations.Nullable;
 import io.reactivex.functions.Action;
@@ -35,7 +37,7 @@ import static com.functional.curry.Curry.toCallable;
  * <p>
  * Created by Ahmed Adel Ismail on 10/29/2017.
  */
-public class Chain<T> implements
+public class Chain<T> extends Proxy<Chain<T>, T> implements
         Conditional<Chain<T>, T>,
         Internal<Chain<T>, T>,
         Callable<T>,
@@ -62,7 +64,7 @@ public class Chain<T> implements
      * @return an {@link Optional} to handle the value
      */
     public static <T> Optional<T> optional(@Nullable T item) {
-        return new Optional<>(item, InternalConfiguration.getInstance(null));
+        return new Optional<>(item, InternalConfiguration.current());
     }
 
     /**
@@ -73,7 +75,7 @@ public class Chain<T> implements
      * @return a new {@link Chain}
      */
     public static <T> Chain<T> let(@NonNull T item) {
-        return new Chain<>(item, InternalConfiguration.getInstance(null));
+        return new Chain<>(item, InternalConfiguration.current());
     }
 
     /**
@@ -85,7 +87,115 @@ public class Chain<T> implements
      * @return a new {@link Chain}
      */
     public static <T> Chain<T> call(@NonNull Callable<T> callable) {
-        return new Chain<>(Invoker.invoke(callable), InternalConfiguration.getInstance(null));
+        return new Chain<>(InternalInvoker.invoke(callable), InternalConfiguration.current());
+    }
+
+    /**
+     * start an {@link AsyncChain} through a {@link Callable} that is executed on the passed
+     * {@link Executor}, the current thread is not blocked
+     *
+     * @param callable the {@link Callable} that will return the root item
+     * @param executor the {@link Executor} that will execute the {@link Callable}
+     * @param <T>      the type of the root item
+     * @return a new {@link AsyncChain}
+     */
+    public static <T> AsyncChain<T> async(@NonNull Callable<T> callable,
+                                          @NonNull Executor executor) {
+        return AsyncChain.call(callable, executor);
+    }
+
+    /**
+     * start an {@link AsyncChain} through a {@link Callable} that is executed on
+     * {@link ChainExecutors#virtual()}, so a blocking {@link Callable} runs on a virtual thread
+     * on Java 21 and above, or on a bounded pool on older JVMs
+     *
+     * @param callable the {@link Callable} that will return the root item
+     * @param <T>      the type of the root item
+     * @return a new {@link AsyncChain}
+     */
+    public static <T> AsyncChain<T> async(@NonNull Callable<T> callable) {
+        return AsyncChain.call(callable, ChainExecutors.virtual());
+    }
+
+    /**
+     * build a {@link Membership} index over the passed {@link Collection} once, so it can be
+     * passed to {@link #whenIn(Membership)} or {@link #whenNotIn(Membership)} many times without
+     * rebuilding it, the comparison will be through {@link Object#equals(Object)}, and the
+     * items are indexed in a hash set (or an {@link java.util.EnumSet} for enum constants)
+     *
+     * @param collection the {@link Collection} that holds the items
+     * @param <T>        the type of the items
+     * @return a {@link Membership} over the passed items
+     */
+    public static <T> Membership<T> membership(Collection<T> collection) {
+        return Membership.equality(collection);
+    }
+
+    /**
+     * build a {@link Membership} index over the passed {@link Collection} once, so it can be
+     * passed to {@link #whenIn(Membership)} or {@link #whenNotIn(Membership)} many times without
+     * rebuilding it, every check will scan the items through the passed {@link BiPredicate}
+     *
+     * @param collection the {@link Collection} that holds the items
+     * @param comparator the {@link BiPredicate} that will be invoked over every item, the checked
+     *                   Object will be passed as it's first parameter, and the item in the
+     *                   {@link Collection} will be passed as the second parameter
+     * @param <T>        the type of the items
+     * @return a {@link Membership} over the passed items
+     */
+    public static <T> Membership<T> membership(Collection<T> collection,
+                                               BiPredicate<T, T> comparator) {
+        return Membership.predicate(collection, comparator);
+    }
+
+    /**
+     * build a {@link Membership} index over the passed {@link Collection} once, the items are
+     * sorted once through their natural ordering, and every check is a binary search
+     *
+     * @param collection the {@link Collection} that holds the items
+     * @param <T>        the type of the items
+     * @return a {@link Membership} over the passed items
+     */
+    public static <T extends Comparable<? super T>> Membership<T> sortedMembership(
+            Collection<T> collection) {
+        return Membership.sorted(collection, new NaturalOrderComparator<T>());
+    }
+
+    /**
+     * build a {@link Membership} index over the passed {@link Collection} once, the items are
+     * sorted once through the passed {@link Comparator}, and every check is a binary search, an
+     * item is considered in the {@link Collection} if the {@link Comparator} returned {@code 0}
+     * for this item and one of the items in the {@link Collection}
+     *
+     * @param collection the {@link Collection} that holds the items
+     * @param comparator the {@link Comparator} that orders the items
+     * @param <T>        the type of the items
+     * @return a {@link Membership} over the passed items
+     */
+    public static <T> Membership<T> sortedMembership(Collection<T> collection,
+                                                     Comparator<? super T> comparator) {
+        return Membership.sorted(collection, comparator);
+    }
+
+    /**
+     * build a {@link BloomMembership} index over the passed {@link Collection} once, this index
+     * is intended for very large collections (like block-lists), it uses much less memory than a
+     * {@link java.util.HashSet}, and most of the items that are not in the {@link Collection}
+     * are rejected by a Bloom filter without touching the items, the result is still exact, as
+     * the items that pass the Bloom filter are checked through {@link Object#equals(Object)}
+     *
+     * @param collection        the {@link Collection} that holds the items, can be {@code null}
+     * @param falsePositiveRate the rate of the items that are not in the {@link Collection} but
+     *                          pass the Bloom filter to the exact check, must be between
+     *                          {@code 0} and {@code 1} (exclusive), like {@code 0.01}
+     * @param <T>               the type of the items
+     * @return a {@link BloomMembership} over the passed items
+     * @throws IllegalArgumentException if the false positive rate is not between {@code 0} and
+     *                                  {@code 1}
+     */
+    public static <T> BloomMembership<T> bloomMembership(Collection<T> collection,
+                                                         double falsePositiveRate) {
+        return new BloomMembership<>(collection, falsePositiveRate);
     }
 
     /**
@@ -102,28 +212,27 @@ public class Chain<T> implements
 
     @Override
     public Proxy<Chain<T>, T> access() {
-        return new Proxy<Chain<T>, T>() {
+        return this;
+    }
 
-            @Override
-            T getItem() {
-                return item;
-            }
+    @Override
+    T getItem() {
+        return item;
+    }
 
-            @Override
-            InternalConfiguration getConfiguration() {
-                return configuration;
-            }
+    @Override
+    InternalConfiguration getConfiguration() {
+        return configuration;
+    }
 
-            @Override
-            Chain<T> copy(T item, InternalConfiguration configuration) {
-                return new Chain<>(item, configuration);
-            }
+    @Override
+    Chain<T> copy(T item, InternalConfiguration configuration) {
+        return new Chain<>(item, configuration);
+    }
 
-            @Override
-            Chain<T> owner() {
-                return Chain.this;
-            }
-        };
+    @Override
+    Chain<T> owner() {
+        return this;
     }
 
     /**
@@ -247,7 +356,7 @@ public class Chain<T> implements
      */
     @Deprecated
     public Chain<Pair<T, Boolean>> in(Collection<T> collection, BiPredicate<T, T> comparator) {
-        boolean inCollection = new InOperator<>(collection, comparator, configuration).test(item);
+        boolean inCollection = new InOperator<>(collection, comparator).test(item);
         return new Chain<>(Pair.with(item, inCollection), configuration);
     }
 
@@ -278,7 +387,7 @@ public class Chain<T> implements
      */
     public Condition<Chain<T>, T> whenIn(Collection<T> collection, BiPredicate<T, T> comparator) {
         return Condition.createNormal(this,
-                new InOperator<>(collection, comparator, configuration));
+                new InOperator<>(collection, comparator));
     }
 
     /**
@@ -308,12 +417,80 @@ public class Chain<T> implements
      */
     public Condition<Chain<T>, T> whenNotIn(Collection<T> collection, BiPredicate<T, T> comparator) {
         return Condition.createNegated(this,
-                new InOperator<>(collection, comparator, configuration));
+                new InOperator<>(collection, comparator));
+    }
+
+    /**
+     * check if the current Object in the {@link Chain} is available in the items indexed by
+     * the passed {@link Membership}
+     *
+     * @param membership the {@link Membership} created through {@link #membership(Collection)}
+     *                   or similar methods
+     * @return a {@link Condition} that will execute it's {@link Condition#then(Consumer)} or
+     * similar methods if the item is available in the passed {@link Membership}
+     */
+    public Condition<Chain<T>, T> whenIn(Membership<T> membership) {
+        return Condition.createNormal(this, new InOperator<>(membership));
+    }
+
+    /**
+     * check if the current Object in the {@link Chain} is NOT available in the items indexed by
+     * the passed {@link Membership}
+     *
+     * @param membership the {@link Membership} created through {@link #membership(Collection)}
+     *                   or similar methods
+     * @return a {@link Condition} that will execute it's {@link Condition#then(Consumer)} or
+     * similar methods if the item is NOT available in the passed {@link Membership}
+     */
+    public Condition<Chain<T>, T> whenNotIn(Membership<T> membership) {
+        return Condition.createNegated(this, new InOperator<>(membership));
+    }
+
+    /**
+     * check if the current Object in the {@link Chain} is available in the passed
+     * {@link Collection}, the items are sorted through the passed {@link Comparator} then the
+     * current Object is looked up through binary search, it is considered available if the
+     * {@link Comparator} returned {@code 0} for it and one of the items
+     * <p>
+     * sorting costs more than one linear scan, so when checking many items against the same
+     * {@link Collection}, build the sorted index once through
+     * {@link #sortedMembership(Collection, Comparator)}
+     * and pass it to {@link #whenIn(Membership)} instead
+     *
+     * @param collection the {@link Collection} that holds the items
+     * @param comparator the {@link Comparator} that orders the items
+     * @return a {@link Condition} that will execute it's {@link Condition#then(Consumer)} or
+     * similar methods if the item is available in the passed {@link Collection}
+     */
+    public Condition<Chain<T>, T> whenInSorted(Collection<T> collection,
+                                               Comparator<? super T> comparator) {
+        return whenIn(Membership.sorted(collection, comparator));
+    }
+
+    /**
+     * check if the current Object in the {@link Chain} is NOT available in the passed
+     * {@link Collection}, the items are sorted through the passed {@link Comparator} then the
+     * current Object is looked up through binary search, it is considered available if the
+     * {@link Comparator} returned {@code 0} for it and one of the items
+     * <p>
+     * sorting costs more than one linear scan, so when checking many items against the same
+     * {@link Collection}, build the sorted index once through
+     * {@link #sortedMembership(Collection, Comparator)}
+     * and pass it to {@link #whenNotIn(Membership)} instead
+     *
+     * @param collection the {@link Collection} that holds the items
+     * @param comparator the {@link Comparator} that orders the items
+     * @return a {@link Condition} that will execute it's {@link Condition#then(Consumer)} or
+     * similar methods if the item is NOT available in the passed {@link Collection}
+     */
+    public Condition<Chain<T>, T> whenNotInSorted(Collection<T> collection,
+                                                  Comparator<? super T> comparator) {
+        return whenNotIn(Membership.sorted(collection, comparator));
     }
 
     @Override
     public <R> R flatMap(@NonNull Function<T, R> flatMapper) {
-        return Invoker.invoke(flatMapper, item);
+        return InternalInvoker.invoke(flatMapper, item);
     }
 
     /**
@@ -323,8 +500,8 @@ public class Chain<T> implements
      * @return {@code this} instance for chaining
      */
     public Chain<T> apply(Consumer<T> action) {
-        Invoker.invoke(action, item);
-        return new Chain<>(item, configuration);
+        InternalInvoker.invoke(action, item);
+        return this;
     }
 
     /**
@@ -335,8 +512,8 @@ public class Chain<T> implements
      * @return {@code this} instance for chaining
      */
     public Chain<T> invoke(Action action) {
-        Invoker.invoke(action);
-        return new Chain<>(item, configuration);
+        InternalInvoker.invoke(action);
+        return this;
     }
 
     /**
@@ -347,7 +524,7 @@ public class Chain<T> implements
      * @return {@code this} instance for chaining
      */
     public <R> Chain<R> map(@NonNull Function<T, R> mapper) {
-        return new Chain<>(Invoker.invoke(mapper, item), configuration);
+        return new Chain<>(InternalInvoker.invoke(mapper, item), configuration);
     }
 
     /**
@@ -368,7 +545,7 @@ public class Chain<T> implements
      * @return a new {@link Chain}
      */
     public <R> Chain<R> to(@NonNull Callable<R> itemCallable) {
-        return new Chain<>(Invoker.invoke(itemCallable), configuration);
+        return new Chain<>(InternalInvoker.invoke(itemCallable), configuration);
     }
 
     /**
@@ -383,7 +560,7 @@ public class Chain<T> implements
 
     @Override
     public Chain<T> defaultIfEmpty(@NonNull T defaultValue) {
-        return new Optional<>(item, configuration).defaultIfEmpty(defaultValue);
+        return item != null ? this : new Chain<>(defaultValue, configuration);
     }
 
     /**
@@ -391,12 +568,13 @@ public class Chain<T> implements
      * debugging mode in {@link ChainConfiguration} in the Application's {@code onCreate()}
      *
      * @param action a {@link Consumer} to be invoked in debugging only
+     * @return {@code this} instance for chaining
      */
     public Chain<T> debug(Consumer<T> action) {
         if (configuration.isDebugging()) {
-            Invoker.invoke(action, item);
+            InternalInvoker.invoke(action, item);
         }
-        return new Chain<>(item, configuration);
+        return this;
     }
 
     @Override
@@ -427,7 +605,257 @@ public class Chain<T> implements
      * first value, and the invoke result as a second value
      */
     public <R> Chain<Pair<T, R>> pair(Function<T, R> pairedItemMapper) {
-        return new Chain<>(Pair.with(item, Invoker.invoke(pairedItemMapper, item)), configuration);
+        return new Chain<>(Pair.with(item, InternalInvoker.invoke(pairedItemMapper, item)),
+                configuration);
+    }
+
+    /**
+     * invoke the passed mappers concurrently on the stored item, and join their results in a
+     * {@link Pair}, so the time taken is the time of the slowest mapper instead of the sum of
+     * both, if a mapper crashed, the other is cancelled and the {@link Exception} is thrown
+     * <p>
+     * the first mapper runs on the calling thread and the other on the passed {@link Executor},
+     * if the {@link Executor} did not start it when the first mapper finishes, the calling thread
+     * runs it as well, so forking from a task that runs on the same {@link Executor}, or on a
+     * busy bounded pool, does not wait for a free thread and can not deadlock
+     *
+     * @param first    the mapper of the first value
+     * @param second   the mapper of the second value
+     * @param executor the {@link Executor} that will invoke the mappers
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @return a {@link Chain} that holds a {@link Pair} of the results
+     */
+    public <A, B> Chain<Pair<A, B>> fork(@NonNull Function<T, A> first,
+                                         @NonNull Function<T, B> second,
+                                         @NonNull Executor executor) {
+        return new Chain<>(InternalInvoker.invoke(Fork.pair(item, first, second, executor)),
+                configuration);
+    }
+
+    /**
+     * invoke the passed mappers concurrently on the calling thread and
+     * {@link ChainExecutors#virtual()}, similar to {@link #fork(Function, Function, Executor)}
+     *
+     * @param first  the mapper of the first value
+     * @param second the mapper of the second value
+     * @param <A>    the type of the first value
+     * @param <B>    the type of the second value
+     * @return a {@link Chain} that holds a {@link Pair} of the results
+     */
+    public <A, B> Chain<Pair<A, B>> fork(@NonNull Function<T, A> first,
+                                         @NonNull Function<T, B> second) {
+        return fork(first, second, ChainExecutors.virtual());
+    }
+
+    /**
+     * invoke the passed mappers concurrently on the stored item, and join their results in a
+     * {@link Triplet}, similar to {@link #fork(Function, Function, Executor)}
+     *
+     * @param first    the mapper of the first value
+     * @param second   the mapper of the second value
+     * @param third    the mapper of the third value
+     * @param executor the {@link Executor} that will invoke the mappers
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <C>      the type of the third value
+     * @return a {@link Chain} that holds a {@link Triplet} of the results
+     */
+    public <A, B, C> Chain<Triplet<A, B, C>> fork(@NonNull Function<T, A> first,
+                                                  @NonNull Function<T, B> second,
+                                                  @NonNull Function<T, C> third,
+                                                  @NonNull Executor executor) {
+        return new Chain<>(InternalInvoker.invoke(
+                Fork.triplet(item, first, second, third, executor)), configuration);
+    }
+
+    /**
+     * invoke the passed mappers concurrently on the calling thread and
+     * {@link ChainExecutors#virtual()}, similar to {@link #fork(Function, Function, Function, Executor)}
+     *
+     * @param first  the mapper of the first value
+     * @param second the mapper of the second value
+     * @param third  the mapper of the third value
+     * @param <A>    the type of the first value
+     * @param <B>    the type of the second value
+     * @param <C>    the type of the third value
+     * @return a {@link Chain} that holds a {@link Triplet} of the results
+     */
+    public <A, B, C> Chain<Triplet<A, B, C>> fork(@NonNull Function<T, A> first,
+                                                  @NonNull Function<T, B> second,
+                                                  @NonNull Function<T, C> third) {
+        return fork(first, second, third, ChainExecutors.virtual());
+    }
+
+    /**
+     * invoke the passed mappers concurrently on the stored item, and join their results in a
+     * {@link Quartet}, similar to {@link #fork(Function, Function, Executor)}
+     *
+     * @param first    the mapper of the first value
+     * @param second   the mapper of the second value
+     * @param third    the mapper of the third value
+     * @param fourth   the mapper of the fourth value
+     * @param executor the {@link Executor} that will invoke the mappers
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <C>      the type of the third value
+     * @param <D>      the type of the fourth value
+     * @return a {@link Chain} that holds a {@link Quartet} of the results
+     */
+    public <A, B, C, D> Chain<Quartet<A, B, C, D>> fork(@NonNull Function<T, A> first,
+                                                        @NonNull Function<T, B> second,
+                                                        @NonNull Function<T, C> third,
+                                                        @NonNull Function<T, D> fourth,
+                                                        @NonNull Executor executor) {
+        return new Chain<>(InternalInvoker.invoke(
+                Fork.quartet(item, first, second, third, fourth, executor)), configuration);
+    }
+
+    /**
+     * invoke the passed mappers concurrently on the calling thread and
+     * {@link ChainExecutors#virtual()}, similar to {@link #fork(Function, Function, Function, Function, Executor)}
+     *
+     * @param first  the mapper of the first value
+     * @param second the mapper of the second value
+     * @param third  the mapper of the third value
+     * @param fourth the mapper of the fourth value
+     * @param <A>    the type of the first value
+     * @param <B>    the type of the second value
+     * @param <C>    the type of the third value
+     * @param <D>    the type of the fourth value
+     * @return a {@link Chain} that holds a {@link Quartet} of the results
+     */
+    public <A, B, C, D> Chain<Quartet<A, B, C, D>> fork(@NonNull Function<T, A> first,
+                                                        @NonNull Function<T, B> second,
+                                                        @NonNull Function<T, C> third,
+                                                        @NonNull Function<T, D> fourth) {
+        return fork(first, second, third, fourth, ChainExecutors.virtual());
+    }
+
+    /**
+     * invoke the passed mappers that may crash concurrently on the stored item, similar to
+     * {@link #fork(Function, Function, Executor)}, but the {@link Exception} of the first mapper
+     * that crashed is held by the returned {@link Guard}
+     *
+     * @param first    the mapper of the first value
+     * @param second   the mapper of the second value
+     * @param executor the {@link Executor} that will invoke the mappers
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @return a {@link Guard} that holds a {@link Pair} of the results, or the error
+     */
+    public <A, B> Guard<Chain<Pair<A, B>>, Pair<A, B>> guardFork(
+            @NonNull Function<T, A> first,
+            @NonNull Function<T, B> second,
+            @NonNull Executor executor) {
+        return new Guard<>(new Chain<Pair<A, B>>(null, configuration).access(),
+                Fork.pair(item, first, second, executor));
+    }
+
+    /**
+     * invoke the passed mappers that may crash concurrently on the calling thread and
+     * {@link ChainExecutors#virtual()}, similar to {@link #guardFork(Function, Function, Executor)}
+     *
+     * @param first  the mapper of the first value
+     * @param second the mapper of the second value
+     * @param <A>    the type of the first value
+     * @param <B>    the type of the second value
+     * @return a {@link Guard} that holds a {@link Pair} of the results, or the error
+     */
+    public <A, B> Guard<Chain<Pair<A, B>>, Pair<A, B>> guardFork(
+            @NonNull Function<T, A> first,
+            @NonNull Function<T, B> second) {
+        return guardFork(first, second, ChainExecutors.virtual());
+    }
+
+    /**
+     * invoke the passed mappers that may crash concurrently on the stored item, similar to
+     * {@link #guardFork(Function, Function, Executor)}
+     *
+     * @param first    the mapper of the first value
+     * @param second   the mapper of the second value
+     * @param third    the mapper of the third value
+     * @param executor the {@link Executor} that will invoke the mappers
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <C>      the type of the third value
+     * @return a {@link Guard} that holds a {@link Triplet} of the results, or the error
+     */
+    public <A, B, C> Guard<Chain<Triplet<A, B, C>>, Triplet<A, B, C>> guardFork(
+            @NonNull Function<T, A> first,
+            @NonNull Function<T, B> second,
+            @NonNull Function<T, C> third,
+            @NonNull Executor executor) {
+        return new Guard<>(new Chain<Triplet<A, B, C>>(null, configuration).access(),
+                Fork.triplet(item, first, second, third, executor));
+    }
+
+    /**
+     * invoke the passed mappers that may crash concurrently on the calling thread and
+     * {@link ChainExecutors#virtual()}, similar to
+     * {@link #guardFork(Function, Function, Function, Executor)}
+     *
+     * @param first  the mapper of the first value
+     * @param second the mapper of the second value
+     * @param third  the mapper of the third value
+     * @param <A>    the type of the first value
+     * @param <B>    the type of the second value
+     * @param <C>    the type of the third value
+     * @return a {@link Guard} that holds a {@link Triplet} of the results, or the error
+     */
+    public <A, B, C> Guard<Chain<Triplet<A, B, C>>, Triplet<A, B, C>> guardFork(
+            @NonNull Function<T, A> first,
+            @NonNull Function<T, B> second,
+            @NonNull Function<T, C> third) {
+        return guardFork(first, second, third, ChainExecutors.virtual());
+    }
+
+    /**
+     * invoke the passed mappers that may crash concurrently on the stored item, similar to
+     * {@link #guardFork(Function, Function, Executor)}
+     *
+     * @param first    the mapper of the first value
+     * @param second   the mapper of the second value
+     * @param third    the mapper of the third value
+     * @param fourth   the mapper of the fourth value
+     * @param executor the {@link Executor} that will invoke the mappers
+     * @param <A>      the type of the first value
+     * @param <B>      the type of the second value
+     * @param <C>      the type of the third value
+     * @param <D>      the type of the fourth value
+     * @return a {@link Guard} that holds a {@link Quartet} of the results, or the error
+     */
+    public <A, B, C, D> Guard<Chain<Quartet<A, B, C, D>>, Quartet<A, B, C, D>> guardFork(
+            @NonNull Function<T, A> first,
+            @NonNull Function<T, B> second,
+            @NonNull Function<T, C> third,
+            @NonNull Function<T, D> fourth,
+            @NonNull Executor executor) {
+        return new Guard<>(new Chain<Quartet<A, B, C, D>>(null, configuration).access(),
+                Fork.quartet(item, first, second, third, fourth, executor));
+    }
+
+    /**
+     * invoke the passed mappers that may crash concurrently on the calling thread and
+     * {@link ChainExecutors#virtual()}, similar to
+     * {@link #guardFork(Function, Function, Function, Function, Executor)}
+     *
+     * @param first  the mapper of the first value
+     * @param second the mapper of the second value
+     * @param third  the mapper of the third value
+     * @param fourth the mapper of the fourth value
+     * @param <A>    the type of the first value
+     * @param <B>    the type of the second value
+     * @param <C>    the type of the third value
+     * @param <D>    the type of the fourth value
+     * @return a {@link Guard} that holds a {@link Quartet} of the results, or the error
+     */
+    public <A, B, C, D> Guard<Chain<Quartet<A, B, C, D>>, Quartet<A, B, C, D>> guardFork(
+            @NonNull Function<T, A> first,
+            @NonNull Function<T, B> second,
+            @NonNull Function<T, C> third,
+            @NonNull Function<T, D> fourth) {
+        return guardFork(first, second, third, fourth, ChainExecutors.virtual());
     }
 
     /**
@@ -456,14 +884,49 @@ public class Chain<T> implements
 
     @SuppressWarnings("unchecked")
     private <R> Collector<R> iterableCollector() {
+        return new Collector<>(ChunkedVector.from((Iterable<R>) item), configuration);
+    }
+
+    /**
+     * collect the stored item into a {@link IntCollector} that holds {@code int} values without
+     * boxing them, the stored item can be a {@code int[]}, an {@link Iterable} of {@link Number}s
+     * (where {@code null} elements are skipped), or a single {@link Number}, if the stored item
+     * is {@code null}, an empty {@link IntCollector} is returned
+     *
+     * @return a {@link IntCollector} for managing those values
+     * @throws UnsupportedOperationException if the stored item can not be collected as
+     *                                       {@code int} values
+     */
+    public IntCollector collectInts() {
+        return IntCollector.from(item, configuration);
+    }
 
-        List<R> items = Observable.fromIterable((Iterable<R>) item)
-                .toList()
-                .blockingGet();
+    /**
+     * collect the stored item into a {@link LongCollector} that holds {@code long} values without
+     * boxing them, the stored item can be a {@code long[]}, an {@link Iterable} of {@link Number}s
+     * (where {@code null} elements are skipped), or a single {@link Number}, if the stored item
+     * is {@code null}, an empty {@link LongCollector} is returned
+     *
+     * @return a {@link LongCollector} for managing those values
+     * @throws UnsupportedOperationException if the stored item can not be collected as
+     *                                       {@code long} values
+     */
+    public LongCollector collectLongs() {
+        return LongCollector.from(item, configuration);
+    }
 
-        Collector<R> collector = new Collector<>(configuration);
-        collector.items.addAll(items);
-        return collector;
+    /**
+     * collect the stored item into a {@link DoubleCollector} that holds {@code double} values without
+     * boxing them, the stored item can be a {@code double[]}, an {@link Iterable} of {@link Number}s
+     * (where {@code null} elements are skipped), or a single {@link Number}, if the stored item
+     * is {@code null}, an empty {@link DoubleCollector} is returned
+     *
+     * @return a {@link DoubleCollector} for managing those values
+     * @throws UnsupportedOperationException if the stored item can not be collected as
+     *                                       {@code double} values
+     */
+    public DoubleCollector collectDoubles() {
+        return DoubleCollector.from(item, configuration);
     }
 
     /**
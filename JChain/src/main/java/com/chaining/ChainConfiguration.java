@@ -1,9 +1,16 @@
 package com.chaining;
 
+import java.util.concurrent.Callable;
+
+import io.reactivex.annotations.NonNull;
+import io.reactivex.functions.Action;
 import io.reactivex.functions.BiConsumer;
 
 /**
  * a class that handles the configurations of the {@link Chain} class
+ * <p>
+ * the static methods update the default configuration, which is used by all the chains, unless
+ * they are started inside a {@link Scope}, see {@link #scope()}
  */
 public class ChainConfiguration {
 
@@ -57,6 +64,141 @@ public class ChainConfiguration {
     public static void setExceptionLogger(BiConsumer<Object, Throwable> exceptionLogger) {
         implementation.setExceptionLogger(exceptionLogger);
     }
-}
 
+    /**
+     * create a new {@link Scope}, a {@link Scope} holds a separate configuration, which is used
+     * by the chains that are started (through {@link Chain#let(Object)},
+     * {@link Chain#optional(Object)}, {@link Chain#call(Callable)} or
+     * {@link Guard#call(Callable)}) on the thread that is executing
+     * {@link Scope#run(Action)} or {@link Scope#call(Callable)}, and by every {@link Optional},
+     * {@link Collector}, {@link Guard} and {@link Logger} created from those chains
+     * <p>
+     * the {@link Scope} follows the work that is submitted while it is running to other threads,
+     * like the stages of an {@link AsyncChain}, the initialization of
+     * {@link Lazy#callAsync(java.util.concurrent.Executor)} or
+     * {@link Lazy#prefetch(java.util.concurrent.Executor)} and the mappers of a fork, so the
+     * chains started in those tasks use the configuration of the {@link Scope} as well
+     * <p>
+     * the {@link Scope} configuration does not inherit the default configuration, for example,
+     * to enable logging for one request :
+     * <pre>
+     * ChainConfiguration.scope()
+     *         .setLogging(true)
+     *         .setInfoLogger(logger)
+     *         .run(handleRequest);
+     * </pre>
+     * every {@link Scope} has it's own configuration, which is not registered any where, so
+     * it is garbage collected with the {@link Scope} and the chains that use it, and it's
+     * settings are not shared with other scopes, to share a configuration between many
+     * executions, keep the {@link Scope} and call {@link Scope#run(Action)} on it again
+     *
+     * @return a new {@link Scope}
+     */
+    public static Scope scope() {
+        return new Scope(InternalConfiguration.newScopedInstance());
+    }
+
+    /**
+     * a configuration that is used only by the chains that are started while
+     * {@link #run(Action)} or {@link #call(Callable)} is executing on the same thread, or in the
+     * asynchronous tasks that are submitted while it is executing, the scopes can be nested, and the previous scope is restored when the inner scope finishes
+     */
+    public static class Scope {
+
+        final InternalConfiguration configuration;
 
+        private Scope(InternalConfiguration configuration) {
+            this.configuration = configuration;
+        }
+
+        /**
+         * set the debugging behavior of the chains in this {@link Scope}
+         *
+         * @param debugging pass {@code true} if the application is in the debugging mode
+         * @return {@code this} {@link Scope}
+         */
+        public Scope setDebugging(boolean debugging) {
+            configuration.setDebugging(debugging);
+            return this;
+        }
+
+        /**
+         * set weather the logging behavior is enabled or disabled for the chains in this
+         * {@link Scope}
+         *
+         * @param logging pass {@code true} to enable logging, or {@code false} to disable it
+         * @return {@code this} {@link Scope}
+         */
+        public Scope setLogging(boolean logging) {
+            configuration.setLogging(logging);
+            return this;
+        }
+
+        /**
+         * set the logging function that will be executed when executing an info log
+         *
+         * @param infoLogger the info logger function
+         * @return {@code this} {@link Scope}
+         */
+        public Scope setInfoLogger(BiConsumer<Object, Object> infoLogger) {
+            configuration.setInfoLogger(infoLogger);
+            return this;
+        }
+
+        /**
+         * set the logging function that will be executed when executing an error log
+         *
+         * @param errorLogger the error logger function
+         * @return {@code this} {@link Scope}
+         */
+        public Scope setErrorLogger(BiConsumer<Object, Object> errorLogger) {
+            configuration.setErrorLogger(errorLogger);
+            return this;
+        }
+
+        /**
+         * set the logging function that will be executed when executing an exception log
+         *
+         * @param exceptionLogger the exception logger function
+         * @return {@code this} {@link Scope}
+         */
+        public Scope setExceptionLogger(BiConsumer<Object, Throwable> exceptionLogger) {
+            configuration.setExceptionLogger(exceptionLogger);
+            return this;
+        }
+
+        /**
+         * execute the passed {@link Action} on the current thread, the chains that are started
+         * while it is executing will use the configuration of this {@link Scope}
+         *
+         * @param action the {@link Action} to execute
+         */
+        public void run(@NonNull Action action) {
+            InternalConfiguration previousConfiguration =
+                    InternalConfiguration.enterScope(configuration);
+            try {
+                InternalInvoker.invoke(action);
+            } finally {
+                InternalConfiguration.exitScope(previousConfiguration);
+            }
+        }
+
+        /**
+         * execute the passed {@link Callable} on the current thread, the chains that are
+         * started while it is executing will use the configuration of this {@link Scope}
+         *
+         * @param callable the {@link Callable} to execute
+         * @param <T>      the type of the result
+         * @return the result of the {@link Callable}
+         */
+        public <T> T call(@NonNull Callable<T> callable) {
+            InternalConfiguration previousConfiguration =
+                    InternalConfiguration.enterScope(configuration);
+            try {
+                return InternalInvoker.invoke(callable);
+            } finally {
+                InternalConfiguration.exitScope(previousConfiguration);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.chaining;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * the {@link Executor} instances that are used by the asynchronous operations, like
+ * {@link Chain#async(Callable)}, {@link Guard#async(Callable, Executor)} and
+ * {@link Lazy#callAsync(Executor)}
+ * <p>
+ * the library targets Java 7, so the virtual threads of Java 21 are requested through
+ * reflection, if the running JVM does not support them, a bounded pool of daemon threads is used
+ * instead
+ */
+public final class ChainExecutors {
+
+    static final String VIRTUAL_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+    static final int BOUNDED_POOL_SIZE =
+            Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+
+    private ChainExecutors() {
+    }
+
+    /**
+     * get the shared {@link Executor} that runs every task on a new virtual thread on Java 21
+     * and above, so a blocking task parks it's virtual thread instead of holding a platform
+     * thread, on older JVMs it runs the tasks on a bounded pool of daemon threads
+     *
+     * @return the shared virtual-thread {@link Executor}, or the bounded pool
+     */
+    public static Executor virtual() {
+        return VirtualHolder.INSTANCE;
+    }
+
+    /**
+     * check weather {@link #virtual()} runs the tasks on virtual threads
+     *
+     * @return {@code true} if the running JVM supports virtual threads
+     */
+    public static boolean isVirtualSupported() {
+        return VirtualHolder.INSTANCE != BoundedHolder.INSTANCE;
+    }
+
+    /**
+     * get the shared bounded pool of daemon threads, that is used by {@link #virtual()} when
+     * the running JVM does not support virtual threads, the idle threads are terminated after
+     * a minute
+     *
+     * @return the shared bounded {@link Executor}
+     */
+    public static Executor bounded() {
+        return BoundedHolder.INSTANCE;
+    }
+
+    /**
+     * create the virtual-thread {@link ExecutorService} through the passed factory method of
+     * {@link Executors}, or return {@code null} if it is not available
+     */
+    static ExecutorService virtualOrNull(String factoryMethod) {
+        try {
+            Method factory = Executors.class.getMethod(factoryMethod);
+            return (ExecutorService) factory.invoke(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    static ThreadPoolExecutor boundedPool(int size) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size,
+                1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<Runnable>(),
+                new DaemonThreadFactory());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static class VirtualHolder {
+        static final Executor INSTANCE = virtualOrBounded();
+
+        private static Executor virtualOrBounded() {
+            ExecutorService virtual = virtualOrNull(VIRTUAL_EXECUTOR_FACTORY);
+            return virtual != null ? virtual : BoundedHolder.INSTANCE;
+        }
+    }
+
+    private static class BoundedHolder {
+        static final Executor INSTANCE = boundedPool(BOUNDED_POOL_SIZE);
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger poolThreads = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "chain-bounded-" + poolThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.chaining;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+
+import io.reactivex.annotations.NonNull;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * a description of a {@link Chain} pipeline that is built once, then compiled into a
+ * {@link Function} that runs the same stages on every item passed to it :
+ * <pre>
+ * Function&lt;Message, Event&gt; handler = ChainPlan.&lt;Message&gt;start()
+ *         .map(parse)
+ *         .when(isValid).then(audit)
+ *         .map(toEvent)
+ *         .compile();
+ * </pre>
+ * the stages behave like the {@link Chain} methods with the same names, and the
+ * {@link Exception} thrown from a stage is converted to a {@link RuntimeException} the same way
+ * {@link Chain} does
+ * <p>
+ * the plan can also be compiled into one {@link MethodHandle} through {@link #toMethodHandle()}
+ * or {@link #compileWithMethodHandles()}, where every stage is bound into the handle tree, on
+ * Android, {@link MethodHandle} requires API level 26
+ * <p>
+ * {@link #compile()} runs the stages through this handle tree, so the JIT compiler inlines them
+ * in one straight path, and the intermediate items do not escape, a loop over the stages can not
+ * do that, as every item passes through the same loop variable, so it is used only when
+ * {@link MethodHandle} is not available
+ * <p>
+ * a {@link ChainPlan} is immutable, every method returns a new {@link ChainPlan}, and the
+ * compiled {@link Function} can be shared between threads, as long as the functions passed to
+ * the stages are thread-safe
+ *
+ * @param <In>  the type of the items passed to the compiled {@link Function}
+ * @param <T>   the type of the item after the current stage
+ */
+public final class ChainPlan<In, T> {
+
+    private static final Stage[] NO_STAGES = new Stage[0];
+
+    private final Stage[] stages;
+
+    private ChainPlan(Stage[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * start a new {@link ChainPlan} with no stages
+     *
+     * @param <In> the type of the items passed to the compiled {@link Function}
+     * @return a new {@link ChainPlan}
+     */
+    public static <In> ChainPlan<In, In> start() {
+        return new ChainPlan<>(NO_STAGES);
+    }
+
+    private <R> ChainPlan<In, R> plus(Stage stage) {
+        Stage[] newStages = Arrays.copyOf(stages, stages.length + 1);
+        newStages[stages.length] = stage;
+        return new ChainPlan<>(newStages);
+    }
+
+    /**
+     * add a stage that converts the item through the passed {@link Function}, similar to
+     * {@link Chain#map(Function)}
+     *
+     * @param mapper the mapper {@link Function}
+     * @param <R>    the type of the mapped item
+     * @return a new {@link ChainPlan} with the stage added
+     */
+    public <R> ChainPlan<In, R> map(@NonNull Function<T, R> mapper) {
+        return plus(Stage.map(mapper));
+    }
+
+    /**
+     * add a stage that invokes the passed {@link Consumer} on the item, similar to
+     * {@link Chain#apply(Consumer)}
+     *
+     * @param action the {@link Consumer} to invoke
+     * @return a new {@link ChainPlan} with the stage added
+     */
+    public ChainPlan<In, T> apply(@NonNull Consumer<T> action) {
+        return plus(Stage.apply(action));
+    }
+
+    /**
+     * start a stage that converts the item through a {@link Function} that may crash, the stage
+     * will be added when {@link PlanGuard#onErrorReturn(Function)} is invoked, similar to
+     * {@link Chain#guardMap(Function)}
+     *
+     * @param guardMapper the mapper {@link Function} that may crash
+     * @param <R>         the type of the mapped item
+     * @return a {@link PlanGuard} to set the fallback {@link Function}
+     */
+    public <R> PlanGuard<In, T, R> guardMap(@NonNull Function<T, R> guardMapper) {
+        return new PlanGuard<>(this, guardMapper);
+    }
+
+    /**
+     * start a conditional stage, that will be added when {@link PlanCondition#then(Consumer)}
+     * is invoked, similar to {@link Chain#when(Predicate)}
+     *
+     * @param predicate the {@link Predicate} that decides weather the next stage is invoked
+     * @return a {@link PlanCondition} to set the conditional stage
+     */
+    public PlanCondition<In, T> when(@NonNull Predicate<T> predicate) {
+        return new PlanCondition<>(this, predicate, false);
+    }
+
+    /**
+     * start a conditional stage, that will be added when {@link PlanCondition#then(Consumer)}
+     * is invoked, similar to {@link Chain#whenNot(Predicate)}
+     *
+     * @param predicate the {@link Predicate} that decides weather the next stage is invoked
+     * @return a {@link PlanCondition} to set the conditional stage
+     */
+    public PlanCondition<In, T> whenNot(@NonNull Predicate<T> predicate) {
+        return new PlanCondition<>(this, predicate, true);
+    }
+
+    /**
+     * start a conditional stage, that will be added when {@link PlanCondition#then(Consumer)}
+     * is invoked, similar to {@link Chain#whenIn(Membership)}
+     *
+     * @param membership the {@link Membership} created through
+     *                   {@link Chain#membership(java.util.Collection)} or similar methods
+     * @return a {@link PlanCondition} to set the conditional stage
+     */
+    public PlanCondition<In, T> whenIn(@NonNull Membership<T> membership) {
+        return new PlanCondition<>(this, new InOperator<>(membership), false);
+    }
+
+    /**
+     * start a conditional stage, that will be added when {@link PlanCondition#then(Consumer)}
+     * is invoked, similar to {@link Chain#whenNotIn(Membership)}
+     *
+     * @param membership the {@link Membership} created through
+     *                   {@link Chain#membership(java.util.Collection)} or similar methods
+     * @return a {@link PlanCondition} to set the conditional stage
+     */
+    public PlanCondition<In, T> whenNotIn(@NonNull Membership<T> membership) {
+        return new PlanCondition<>(this, new InOperator<>(membership), true);
+    }
+
+    /**
+     * compile the stages of this {@link ChainPlan} into a {@link Function}, this
+     * {@link ChainPlan} can still be used to build other plans after compiling it
+     * <p>
+     * the returned {@link Function} invokes the {@link MethodHandle} of
+     * {@link #toMethodHandle()}, where the stages are bound in one straight path that the JIT
+     * compiler can inline, if {@link MethodHandle} is not available (on Android before API
+     * level 26) it loops over the stages instead
+     *
+     * @return a thread-safe {@link Function} that runs all the stages on the passed item, and
+     * returns the item after the last stage
+     */
+    public Function<In, T> compile() {
+        try {
+            return compileWithMethodHandles();
+        } catch (LinkageError e) {
+            return compileStages();
+        }
+    }
+
+    /**
+     * compile the stages into a {@link Function} that loops over them, this is the fallback of
+     * {@link #compile()} when {@link MethodHandle} is not available
+     */
+    Function<In, T> compileStages() {
+        return new CompiledPlan<>(stages);
+    }
+
+    /**
+     * bind the stages of this {@link ChainPlan} into one {@link MethodHandle} of the type
+     * {@code (Object)Object}, the maps are composed through
+     * {@link java.lang.invoke.MethodHandles#filterReturnValue(MethodHandle, MethodHandle)}, the
+     * conditions through
+     * {@link java.lang.invoke.MethodHandles#guardWithTest(MethodHandle, MethodHandle,
+     * MethodHandle)}, and the guards through
+     * {@link java.lang.invoke.MethodHandles#catchException(MethodHandle, Class, MethodHandle)},
+     * the returned handle can be stored in a {@code static final} field and called through
+     * {@link MethodHandle#invokeExact(Object...)}, the exceptions thrown from the stages are not
+     * converted
+     *
+     * @return a {@link MethodHandle} that runs all the stages on the passed item
+     */
+    public MethodHandle toMethodHandle() {
+        MethodHandle handle = StageHandles.identity();
+        for (Stage stage : stages) {
+            handle = StageHandles.then(handle, stage.handle());
+        }
+        return handle;
+    }
+
+    /**
+     * similar to {@link #compile()}, but the returned {@link Function} invokes the
+     * {@link MethodHandle} created by {@link #toMethodHandle()}
+     *
+     * @return a thread-safe {@link Function} that runs all the stages on the passed item, and
+     * returns the item after the last stage
+     */
+    public Function<In, T> compileWithMethodHandles() {
+        return new MethodHandlePlan<>(toMethodHandle());
+    }
+
+    /**
+     * a conditional stage that is not complete yet, similar to {@link Condition}
+     *
+     * @param <In> the type of the items passed to the compiled {@link Function}
+     * @param <T>  the type of the item in the current stage
+     */
+    public static final class PlanCondition<In, T> {
+
+        private final ChainPlan<In, T> plan;
+        private final Predicate<T> predicate;
+        private final boolean negateExpression;
+
+        private PlanCondition(ChainPlan<In, T> plan,
+                              Predicate<T> predicate,
+                              boolean negateExpression) {
+            this.plan = plan;
+            this.predicate = predicate;
+            this.negateExpression = negateExpression;
+        }
+
+        /**
+         * add a stage that invokes the passed {@link Consumer} only if the {@link Predicate}
+         * accepted the item, similar to {@link Condition#then(Consumer)}
+         *
+         * @param action the {@link Consumer} to invoke
+         * @return a new {@link ChainPlan} with the stage added
+         */
+        public ChainPlan<In, T> then(@NonNull Consumer<T> action) {
+            return plan.plus(Stage.condition(predicate, negateExpression, action));
+        }
+    }
+
+    /**
+     * a stage that may crash and is not complete yet, similar to {@link Guard}
+     *
+     * @param <In> the type of the items passed to the compiled {@link Function}
+     * @param <T>  the type of the item in the current stage
+     * @param <R>  the type of the mapped item
+     */
+    public static final class PlanGuard<In, T, R> {
+
+        private final ChainPlan<In, T> plan;
+        private final Function<T, R> guardMapper;
+
+        private PlanGuard(ChainPlan<In, T> plan, Function<T, R> guardMapper) {
+            this.plan = plan;
+            this.guardMapper = guardMapper;
+        }
+
+        /**
+         * add a stage that maps the item, and if the mapper crashed, the passed {@link Function}
+         * will provide the item for the next stages, similar to
+         * {@link Guard#onErrorReturn(Function)}
+         *
+         * @param function the {@link Function} that takes the {@link Exception} and returns the
+         *                 fallback item
+         * @return a new {@link ChainPlan} with the stage added
+         */
+        public ChainPlan<In, R> onErrorReturn(@NonNull Function<Throwable, R> function) {
+            return plan.plus(Stage.guard(guardMapper, function));
+        }
+    }
+
+    private static final class CompiledPlan<In, T> implements Function<In, T> {
+
+        private final Stage[] stages;
+
+        CompiledPlan(Stage[] stages) {
+            this.stages = stages;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T apply(In item) {
+            Object result = item;
+            try {
+                for (Stage stage : stages) {
+                    switch (stage.kind) {
+                        case Stage.MAP:
+                            result = stage.function.apply(result);
+                            break;
+                        case Stage.APPLY:
+                            stage.action.accept(result);
+                            break;
+                        case Stage.CONDITION:
+                            if (stage.predicate.test(result) != stage.negateExpression) {
+                                stage.action.accept(result);
+                            }
+                            break;
+                        default:
+                            result = guard(stage, result);
+                    }
+                }
+            } catch (Exception e) {
+                throw InternalInvoker.toRuntimeException(e);
+            }
+            return (T) result;
+        }
+
+        private static Object guard(Stage stage, Object item) throws Exception {
+            try {
+                return stage.function.apply(item);
+            } catch (Exception e) {
+                return stage.fallback.apply(e);
+            }
+        }
+    }
+
+    private static final class MethodHandlePlan<In, T> implements Function<In, T> {
+
+        private final MethodHandle handle;
+
+        MethodHandlePlan(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T apply(In item) {
+            try {
+                return (T) (Object) handle.invokeExact((Object) item);
+            } catch (Exception e) {
+                throw InternalInvoker.toRuntimeException(e);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * one stage of the plan, all the kinds of stages share this final class, and
+     * {@link CompiledPlan} switches on the {@link #kind}, so the loop over the stages does not
+     * go through a virtual call that the JIT compiler can not inline
+     */
+    @SuppressWarnings("unchecked")
+    private static final class Stage {
+
+        static final int MAP = 0;
+        static final int APPLY = 1;
+        static final int CONDITION = 2;
+        static final int GUARD = 3;
+
+        final int kind;
+        final Function<Object, Object> function;
+        final Consumer<Object> action;
+        final Predicate<Object> predicate;
+        final boolean negateExpression;
+        final Function<Throwable, Object> fallback;
+
+        private Stage(int kind,
+                      Function<?, ?> function,
+                      Consumer<?> action,
+                      Predicate<?> predicate,
+                      boolean negateExpression,
+                      Function<Throwable, ?> fallback) {
+            this.kind = kind;
+            this.function = (Function<Object, Object>) function;
+            this.action = (Consumer<Object>) action;
+            this.predicate = (Predicate<Object>) predicate;
+            this.negateExpression = negateExpression;
+            this.fallback = (Function<Throwable, Object>) fallback;
+        }
+
+        static Stage map(Function<?, ?> mapper) {
+            return new Stage(MAP, mapper, null, null, false, null);
+        }
+
+        static Stage apply(Consumer<?> action) {
+            return new Stage(APPLY, null, action, null, false, null);
+        }
+
+        static Stage condition(Predicate<?> predicate, boolean negateExpression, Consumer<?> action) {
+            return new Stage(CONDITION, null, action, predicate, negateExpression, null);
+        }
+
+        static Stage guard(Function<?, ?> guardMapper, Function<Throwable, ?> fallback) {
+            return new Stage(GUARD, guardMapper, null, null, false, fallback);
+        }
+
+        MethodHandle handle() {
+            switch (kind) {
+                case MAP:
+                    return StageHandles.map(function);
+                case APPLY:
+                    return StageHandles.apply(action);
+                case CONDITION:
+                    return StageHandles.condition(predicate, negateExpression, action);
+                default:
+                    return StageHandles.guard(function, fallback);
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.chaining;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * a persistent (immutable) {@link java.util.List} that stores it's items in chunks of 32
+ * elements, the last chunk is kept as a tail buffer, and the full chunks are stored in a
+ * 32-way trie ... appending an item through {@link #plus(Object)} returns a new
+ * {@link ChunkedVector} that shares all the full chunks with the original one, so appending
+ * costs amortized O(1) instead of copying the whole {@link java.util.List}
+ * <p>
+ * all the mutating methods of {@link java.util.List} throw
+ * {@link UnsupportedOperationException}
+ *
+ * @param <T> the type of the stored items
+ */
+final class ChunkedVector<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final ChunkedVector<?> EMPTY =
+            new ChunkedVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private ChunkedVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * get the empty {@link ChunkedVector}
+     *
+     * @param <T> the type of the items
+     * @return an empty {@link ChunkedVector}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ChunkedVector<T> empty() {
+        return (ChunkedVector<T>) EMPTY;
+    }
+
+    /**
+     * create a {@link ChunkedVector} that holds the non-{@code null} items of the passed
+     * {@link Iterable}, if the passed {@link Iterable} is already a {@link ChunkedVector}, it
+     * will be returned as is
+     *
+     * @param items the source items, can be {@code null}
+     * @param <T>   the type of the items
+     * @return a {@link ChunkedVector} holding the items
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ChunkedVector<T> from(Iterable<? extends T> items) {
+        if (items == null) {
+            return empty();
+        } else if (items instanceof ChunkedVector) {
+            return (ChunkedVector<T>) items;
+        }
+
+        Builder<T> builder = items instanceof Collection
+                ? new Builder<T>(((Collection<?>) items).size())
+                : new Builder<T>();
+        for (T item : items) {
+            builder.add(item);
+        }
+        return builder.build();
+    }
+
+    /**
+     * append an item to the end of this {@link ChunkedVector}
+     *
+     * @param item the item to append
+     * @return a new {@link ChunkedVector} that shares the full chunks with this instance
+     */
+    ChunkedVector<T> plus(T item) {
+        int tailSize = size - tailOffset();
+        if (tailSize < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tailSize + 1);
+            newTail[tailSize] = item;
+            return new ChunkedVector<>(size + 1, shift, root, newTail);
+        } else {
+            return pushTail(new Object[]{item}, 1);
+        }
+    }
+
+    /**
+     * move the full tail of this vector into the trie, and use the passed chunk as the new tail
+     *
+     * @param newTail     the new tail chunk
+     * @param newTailSize the number of items in the new tail chunk
+     * @return a new {@link ChunkedVector}
+     */
+    private ChunkedVector<T> pushTail(Object[] newTail, int newTailSize) {
+        if (size == 0) {
+            return new ChunkedVector<>(newTailSize, BITS, EMPTY_NODE, newTail);
+        }
+
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new ChunkedVector<>(size + newTailSize, newShift, newRoot, newTail);
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] node = parent.clone();
+        Object[] child;
+        if (level == BITS) {
+            child = tailNode;
+        } else if (parent[subIndex] != null) {
+            child = pushTail(level - BITS, (Object[]) parent[subIndex], tailNode);
+        } else {
+            child = newPath(level - BITS, tailNode);
+        }
+        node[subIndex] = child;
+        return node;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] path = new Object[WIDTH];
+        path[0] = newPath(level - BITS, node);
+        return path;
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] chunkFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return (T) chunkFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ChunkIterator();
+    }
+
+    /**
+     * an {@link Iterator} that walks the trie one chunk at a time instead of looking up
+     * every index from the root
+     */
+    private final class ChunkIterator implements Iterator<T> {
+
+        private int index;
+        private Object[] chunk;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            if ((index & MASK) == 0 || chunk == null) {
+                chunk = chunkFor(index);
+            }
+            return (T) chunk[index++ & MASK];
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * a mutable builder that fills a {@link ChunkedVector} chunk by chunk, without copying the
+     * tail buffer on every added item, {@code null} items are skipped
+     *
+     * @param <T> the type of the items
+     */
+    static final class Builder<T> {
+
+        private ChunkedVector<T> vector = empty();
+        private Object[] chunk;
+        private int chunkSize;
+
+        Builder() {
+            this(WIDTH);
+        }
+
+        /**
+         * create a {@link Builder} that expects a certain number of items, if less than 32 items
+         * are expected, the first chunk is allocated with the expected size, so small vectors
+         * do not allocate a full chunk
+         *
+         * @param expectedSize the expected number of items
+         */
+        Builder(int expectedSize) {
+            this.chunk = new Object[Math.max(1, Math.min(expectedSize, WIDTH))];
+        }
+
+        Builder<T> add(T item) {
+            if (item == null) {
+                return this;
+            }
+            if (chunkSize == chunk.length) {
+                chunk = Arrays.copyOf(chunk, WIDTH);
+            }
+            chunk[chunkSize++] = item;
+            if (chunkSize == WIDTH) {
+                vector = vector.pushTail(chunk, WIDTH);
+                chunk = new Object[WIDTH];
+                chunkSize = 0;
+            }
+            return this;
+        }
+
+        ChunkedVector<T> build() {
+            if (chunkSize == 0) {
+                return vector;
+            }
+            Object[] lastChunk = chunkSize == chunk.length
+                    ? chunk
+                    : Arrays.copyOf(chunk, chunkSize);
+            return vector.pushTail(lastChunk, chunkSize);
+        }
+    }
+}
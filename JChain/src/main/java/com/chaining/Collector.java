@@ -3,64 +3,74 @@ package com.chaining;
 import com.chaining.interfaces.And;
 import com.chaining.interfaces.Functor;
 import com.chaining.interfaces.Monad;
-import com.functional.curry.Invoker;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
+import org.javatuples.Pair;
+
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
-import io.reactivex.Observable;
 import io.reactivex.annotations.NonNull;
 import io.reactivex.functions.BiConsumer;
 import io.reactivex.functions.BiFunction;
 import io.reactivex.functions.Consumer;
 import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
 
 /**
  * a class that keeps collecting new items into a list then returns the new List on request
  * <p>
  * Created by Ahmed Adel Ismail on 11/13/2017.
  */
-public class Collector<T> implements
+public class Collector<T> extends Proxy<Collector<T>, List<T>> implements
         Internal<Collector<T>, List<T>>,
         And<T>,
         Monad<List<T>>,
         Functor<T> {
 
-    final List<T> items = new LinkedList<>();
+    final ChunkedVector<T> items;
     private final InternalConfiguration configuration;
 
     Collector(InternalConfiguration configuration) {
-        this.configuration = configuration;
+        this(ChunkedVector.<T>empty(), configuration);
     }
 
+    Collector(ChunkedVector<T> items, InternalConfiguration configuration) {
+        this.items = items;
+        this.configuration = configuration;
+    }
 
+    /**
+     * append an item to a new {@link Collector}, this {@link Collector} is not modified, and
+     * the new {@link Collector} shares the already collected items with it, so appending does
+     * not copy the whole {@link List}
+     *
+     * @param item the item to be added, {@code null} items are ignored
+     * @return a new {@link Collector} holding the current items plus the new item
+     */
     @Override
     public Collector<T> and(T item) {
         if (item != null) {
-            items.add(item);
+            return new Collector<>(items.plus(item), configuration);
+        } else {
+            return this;
         }
-        return copy();
-    }
-
-    private Collector<T> copy() {
-        Collector<T> collector = new Collector<>(configuration);
-        collector.items.addAll(items);
-        return collector;
     }
 
     /**
-     * collect the added items into a {@link List} that holds no {@code null} values
+     * collect the added items into a {@link List} that holds no {@code null} values, the
+     * returned {@link List} is read-only
      *
      * @return a {@link Chain} holding a List of items
      */
     public Chain<List<T>> toList() {
-        return new Chain<>(items, configuration);
+        return new Chain<List<T>>(items, configuration);
     }
 
     @Override
     public <R> R flatMap(@NonNull Function<List<T>, R> flatMapper) {
-        return Invoker.invoke(flatMapper, items);
+        return InternalInvoker.invoke(flatMapper, items);
     }
 
     /**
@@ -70,7 +80,9 @@ public class Collector<T> implements
      * @return {@code this} {@link Collector} after iteration
      */
     public Collector<T> forEach(@NonNull Consumer<T> action) {
-        Observable.fromIterable(items).blockingForEach(action);
+        for (T item : items) {
+            InternalInvoker.invoke(action, item);
+        }
         return this;
     }
 
@@ -91,24 +103,254 @@ public class Collector<T> implements
 
     @NonNull
     private <R> Collector<R> invokeMap(Function<T, R> mapper) {
-        Collector<R> collector = new Collector<>(configuration);
-        collector.items.addAll(nonNullMappedItems(mapper));
-        return collector;
+        ChunkedVector.Builder<R> mappedItems = new ChunkedVector.Builder<>();
+        for (T item : items) {
+            mappedItems.add(InternalInvoker.invoke(mapper, item));
+        }
+        return new Collector<>(mappedItems.build(), configuration);
     }
 
-    private <R> List<R> nonNullMappedItems(Function<T, R> mapper) {
-        List<R> mappedItems = new ArrayList<>(items.size());
+    /**
+     * keep only the items that are available in the passed {@link Collection}, the
+     * {@link Collection} is indexed once through {@link Chain#membership(Collection)}, then
+     * every item is checked against this index, instead of invoking
+     * {@link Chain#whenIn(Collection)} for every item
+     *
+     * @param collection the {@link Collection} that holds the accepted items
+     * @return a new {@link Collector} with the items that are in the passed {@link Collection}
+     */
+    public Collector<T> filterIn(Collection<T> collection) {
+        return filterIn(Membership.equality(collection));
+    }
+
+    /**
+     * keep only the items that are available in the passed {@link Membership}
+     *
+     * @param membership the {@link Membership} created through
+     *                   {@link Chain#membership(Collection)} or similar methods
+     * @return a new {@link Collector} with the items that are in the passed {@link Membership}
+     */
+    public Collector<T> filterIn(@NonNull Membership<T> membership) {
+        return filterByMembership(membership, true);
+    }
+
+    /**
+     * remove the items that are available in the passed {@link Collection}, the
+     * {@link Collection} is indexed once through {@link Chain#membership(Collection)}, then
+     * every item is checked against this index, instead of invoking
+     * {@link Chain#whenNotIn(Collection)} for every item
+     *
+     * @param collection the {@link Collection} that holds the rejected items
+     * @return a new {@link Collector} with the items that are NOT in the passed
+     * {@link Collection}
+     */
+    public Collector<T> filterNotIn(Collection<T> collection) {
+        return filterNotIn(Membership.equality(collection));
+    }
+
+    /**
+     * remove the items that are available in the passed {@link Membership}
+     *
+     * @param membership the {@link Membership} created through
+     *                   {@link Chain#membership(Collection)} or similar methods
+     * @return a new {@link Collector} with the items that are NOT in the passed
+     * {@link Membership}
+     */
+    public Collector<T> filterNotIn(@NonNull Membership<T> membership) {
+        return filterByMembership(membership, false);
+    }
+
+    private Collector<T> filterByMembership(Membership<T> membership, boolean available) {
+        ChunkedVector.Builder<T> filteredItems = new ChunkedVector.Builder<>();
         for (T item : items) {
-            addMappedItemIfNonNull(Invoker.invoke(mapper, item), mappedItems);
+            if (membership.contains(item) == available) {
+                filteredItems.add(item);
+            }
+        }
+        return new Collector<>(filteredItems.build(), configuration);
+    }
+
+    /**
+     * split the items into the items that are available in the passed {@link Collection}, and
+     * the items that are not, in one pass, the {@link Collection} is indexed once through
+     * {@link Chain#membership(Collection)}
+     *
+     * @param collection the {@link Collection} to check the items against
+     * @return a {@link Pair} holding a {@link Collector} of the items that are in the passed
+     * {@link Collection} as it's first value, and a {@link Collector} of the other items as it's
+     * second value, both keep the order of the items
+     */
+    public Pair<Collector<T>, Collector<T>> partitionIn(Collection<T> collection) {
+        return partitionIn(Membership.equality(collection));
+    }
+
+    /**
+     * split the items into the items that are available in the passed {@link Membership}, and
+     * the items that are not, in one pass
+     *
+     * @param membership the {@link Membership} created through
+     *                   {@link Chain#membership(Collection)} or similar methods
+     * @return a {@link Pair} holding a {@link Collector} of the items that are in the passed
+     * {@link Membership} as it's first value, and a {@link Collector} of the other items as it's
+     * second value, both keep the order of the items
+     */
+    public Pair<Collector<T>, Collector<T>> partitionIn(@NonNull Membership<T> membership) {
+        ChunkedVector.Builder<T> matching = new ChunkedVector.Builder<>();
+        ChunkedVector.Builder<T> notMatching = new ChunkedVector.Builder<>();
+        for (T item : items) {
+            if (membership.contains(item)) {
+                matching.add(item);
+            } else {
+                notMatching.add(item);
+            }
+        }
+        return Pair.with(new Collector<>(matching.build(), configuration),
+                new Collector<>(notMatching.build(), configuration));
+    }
+
+    /**
+     * start a {@link LazyCollector} over the items of this {@link Collector}, the
+     * {@link LazyCollector#map(Function)}, {@link LazyCollector#filter(Predicate)} and
+     * {@link LazyCollector#peek(Consumer)} operations are recorded, then executed in one pass
+     * when a terminal operation is invoked
+     *
+     * @return a {@link LazyCollector} over the items of this {@link Collector}
+     */
+    public LazyCollector<T> lazy() {
+        return new LazyCollector<>(items, configuration);
+    }
+
+    /**
+     * similar to {@link #map(Function)}, but the items are mapped in parallel on a shared
+     * {@link ForkJoinPool} with a parallelism equal to the available processors, the mapped items
+     * keep the same order of the original items, and the {@code null} results are removed
+     *
+     * @param mapper the mapper {@link Function}, it may be invoked from multiple threads
+     * @return the new {@link Collector} with mapped items
+     */
+    public <R> Collector<R> parallelMap(@NonNull Function<T, R> mapper) {
+        ForkJoinPool pool = ParallelOperations.defaultPool();
+        return parallelMap(mapper, pool, ParallelOperations.defaultThreshold(items.size(), pool));
+    }
+
+    /**
+     * similar to {@link #map(Function)}, but the items are mapped in parallel on the passed
+     * {@link ForkJoinPool}, the mapped items keep the same order of the original items, and
+     * the {@code null} results are removed
+     *
+     * @param mapper              the mapper {@link Function}, it may be invoked from multiple
+     *                            threads
+     * @param pool                the {@link ForkJoinPool} that will execute the mapping tasks
+     * @param sequentialThreshold the maximum number of items that are mapped sequentially in
+     *                            one task, must be positive
+     * @return the new {@link Collector} with mapped items
+     * @throws IllegalArgumentException if the sequential threshold is not positive
+     */
+    public <R> Collector<R> parallelMap(@NonNull Function<T, R> mapper,
+                                        @NonNull ForkJoinPool pool,
+                                        int sequentialThreshold) {
+        checkThreshold(sequentialThreshold);
+        if (items.isEmpty()) {
+            return new Collector<>(configuration);
         }
-        return mappedItems;
+        return new Collector<>(ParallelOperations.map(items, mapper, pool, sequentialThreshold),
+                configuration);
+    }
 
+    /**
+     * similar to {@link #forEach(Consumer)}, but the action is invoked in parallel on a shared
+     * {@link ForkJoinPool} with a parallelism equal to the available processors, there is no
+     * guarantee on the order of invocation
+     *
+     * @param action a {@link Consumer} that will be invoked over all items, it may be invoked
+     *               from multiple threads
+     * @return {@code this} {@link Collector} after all the invocations are done
+     */
+    public Collector<T> parallelForEach(@NonNull Consumer<T> action) {
+        ForkJoinPool pool = ParallelOperations.defaultPool();
+        return parallelForEach(action, pool,
+                ParallelOperations.defaultThreshold(items.size(), pool));
     }
 
-    private <R> void addMappedItemIfNonNull(R mappedItem, List<R> mappedItems) {
-        if (mappedItem != null) mappedItems.add(mappedItem);
+    /**
+     * similar to {@link #forEach(Consumer)}, but the action is invoked in parallel on the passed
+     * {@link ForkJoinPool}, there is no guarantee on the order of invocation
+     *
+     * @param action              a {@link Consumer} that will be invoked over all items, it may
+     *                            be invoked from multiple threads
+     * @param pool                the {@link ForkJoinPool} that will execute the tasks
+     * @param sequentialThreshold the maximum number of items that are handled sequentially in
+     *                            one task, must be positive
+     * @return {@code this} {@link Collector} after all the invocations are done
+     * @throws IllegalArgumentException if the sequential threshold is not positive
+     */
+    public Collector<T> parallelForEach(@NonNull Consumer<T> action,
+                                        @NonNull ForkJoinPool pool,
+                                        int sequentialThreshold) {
+        checkThreshold(sequentialThreshold);
+        if (!items.isEmpty()) {
+            ParallelOperations.forEach(items, action, pool, sequentialThreshold);
+        }
+        return this;
     }
 
+    /**
+     * reduce all the items in this {@link Collector} in parallel on a shared
+     * {@link ForkJoinPool} with a parallelism equal to the available processors
+     *
+     * @param identity the initial value for every partial reduction, it should not change the
+     *                 result when combined with any other value
+     * @param reducer  the {@link BiFunction} that accumulates an item into a partial result
+     * @param combiner the {@link BiFunction} that combines two partial results, the partial
+     *                 results are combined in the order of the items
+     * @param <R>      the type of the result
+     * @return a {@link Chain} holding the result of the reduction, or the identity value if
+     * this {@link Collector} is empty
+     */
+    public <R> Chain<R> parallelReduce(R identity,
+                                       @NonNull BiFunction<R, T, R> reducer,
+                                       @NonNull BiFunction<R, R, R> combiner) {
+        ForkJoinPool pool = ParallelOperations.defaultPool();
+        return parallelReduce(identity, reducer, combiner, pool,
+                ParallelOperations.defaultThreshold(items.size(), pool));
+    }
+
+    /**
+     * reduce all the items in this {@link Collector} in parallel on the passed
+     * {@link ForkJoinPool}
+     *
+     * @param identity            the initial value for every partial reduction, it should not
+     *                            change the result when combined with any other value
+     * @param reducer             the {@link BiFunction} that accumulates an item into a
+     *                            partial result
+     * @param combiner            the {@link BiFunction} that combines two partial results, the
+     *                            partial results are combined in the order of the items
+     * @param pool                the {@link ForkJoinPool} that will execute the tasks
+     * @param sequentialThreshold the maximum number of items that are reduced sequentially in
+     *                            one task, must be positive
+     * @param <R>                 the type of the result
+     * @return a {@link Chain} holding the result of the reduction, or the identity value if
+     * this {@link Collector} is empty
+     * @throws IllegalArgumentException if the sequential threshold is not positive
+     */
+    public <R> Chain<R> parallelReduce(R identity,
+                                       @NonNull BiFunction<R, T, R> reducer,
+                                       @NonNull BiFunction<R, R, R> combiner,
+                                       @NonNull ForkJoinPool pool,
+                                       int sequentialThreshold) {
+        checkThreshold(sequentialThreshold);
+        if (items.isEmpty()) {
+            return new Chain<>(identity, configuration);
+        }
+        return new Chain<>(ParallelOperations.reduce(items, identity, reducer, combiner,
+                pool, sequentialThreshold), configuration);
+    }
+
+    private static void checkThreshold(int sequentialThreshold) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("sequentialThreshold must be positive");
+        }
+    }
 
     /**
      * reduce all the items in this {@link Collector}
@@ -122,19 +364,12 @@ public class Collector<T> implements
             return new Chain<>(null, configuration);
         }
 
-        return Observable.fromIterable(items)
-                .reduce(reducer)
-                .map(toChain())
-                .blockingGet();
-    }
-
-    private Function<T, Chain<T>> toChain() {
-        return new Function<T, Chain<T>>() {
-            @Override
-            public Chain<T> apply(T item) throws Exception {
-                return new Chain<>(item, configuration);
-            }
-        };
+        Iterator<T> iterator = items.iterator();
+        T result = iterator.next();
+        while (iterator.hasNext()) {
+            result = InternalInvoker.invoke(reducer, result, iterator.next());
+        }
+        return new Chain<>(result, configuration);
     }
 
     /**
@@ -153,28 +388,26 @@ public class Collector<T> implements
 
     @Override
     public Proxy<Collector<T>, List<T>> access() {
-        return new Proxy<Collector<T>, List<T>>() {
-            @Override
-            List<T> getItem() {
-                return items;
-            }
+        return this;
+    }
 
-            @Override
-            InternalConfiguration getConfiguration() {
-                return configuration;
-            }
+    @Override
+    List<T> getItem() {
+        return items;
+    }
 
-            @Override
-            Collector<T> copy(List<T> items, InternalConfiguration configuration) {
-                Collector<T> collector = new Collector<>(configuration);
-                collector.items.addAll(items);
-                return collector;
-            }
+    @Override
+    InternalConfiguration getConfiguration() {
+        return configuration;
+    }
 
-            @Override
-            Collector<T> owner() {
-                return Collector.this;
-            }
-        };
+    @Override
+    Collector<T> copy(List<T> items, InternalConfiguration configuration) {
+        return new Collector<>(ChunkedVector.from(items), configuration);
+    }
+
+    @Override
+    Collector<T> owner() {
+        return this;
     }
 }
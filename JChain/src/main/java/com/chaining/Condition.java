@@ -1,8 +1,6 @@
 package com.chaining;
 
 
-import com.functional.curry.Invoker;
-
 import java.util.concurrent.Callable;
 
 import io.reactivex.annotations.NonNull;
@@ -18,7 +16,8 @@ import io.reactivex.functions.Predicate;
  * <p>
  * Created by Ahmed Adel Ismail on 10/29/2017.
  */
-public class Condition<S extends Conditional<S, T>, T> implements Internal<Condition<S, T>, T> {
+public class Condition<S extends Conditional<S, T>, T> extends Proxy<Condition<S, T>, T>
+        implements Internal<Condition<S, T>, T> {
 
     private final boolean negateExpression;
     private final Predicate<T> predicate;
@@ -50,7 +49,7 @@ public class Condition<S extends Conditional<S, T>, T> implements Internal<Condi
      */
     public S then(Consumer<T> action) {
         if (isSourceChainUpdateAccepted())
-            return Invoker.invoke(sourceProxy.owner(), action);
+            return InternalInvoker.invoke(sourceProxy.owner(), action);
         else {
             return sourceProxy.owner();
         }
@@ -58,7 +57,7 @@ public class Condition<S extends Conditional<S, T>, T> implements Internal<Condi
 
     private boolean isSourceChainUpdateAccepted() {
 
-        boolean expression = Invoker.invoke(predicate, sourceProxy.getItem());
+        boolean expression = InternalInvoker.invoke(predicate, sourceProxy.getItem());
         if (negateExpression) {
             expression = !expression;
         }
@@ -74,7 +73,7 @@ public class Condition<S extends Conditional<S, T>, T> implements Internal<Condi
      * {@code true}, or will return it with no updates
      */
     public S invoke(Action action) {
-        if (isSourceChainUpdateAccepted()) Invoker.invoke(action);
+        if (isSourceChainUpdateAccepted()) InternalInvoker.invoke(action);
         return sourceProxy.owner();
 
     }
@@ -89,7 +88,7 @@ public class Condition<S extends Conditional<S, T>, T> implements Internal<Condi
      */
     public <R> Optional<R> thenMap(Function<T, R> mapper) {
         if (isSourceChainUpdateAccepted()) {
-            return new Optional<>(Invoker.invoke(mapper, sourceProxy.getItem()),
+            return new Optional<>(InternalInvoker.invoke(mapper, sourceProxy.getItem()),
                     sourceProxy.getConfiguration());
         } else {
             return new Optional<>(null, sourceProxy.getConfiguration());
@@ -121,7 +120,8 @@ public class Condition<S extends Conditional<S, T>, T> implements Internal<Condi
      */
     public <R> Optional<R> thenTo(@NonNull Callable<R> itemCallable) {
         if (isSourceChainUpdateAccepted()) {
-            return new Optional<>(Invoker.invoke(itemCallable), sourceProxy.getConfiguration());
+            return new Optional<>(InternalInvoker.invoke(itemCallable),
+                    sourceProxy.getConfiguration());
         } else {
             return new Optional<>(null, sourceProxy.getConfiguration());
         }
@@ -145,26 +145,26 @@ public class Condition<S extends Conditional<S, T>, T> implements Internal<Condi
 
     @Override
     public Proxy<Condition<S, T>, T> access() {
-        return new Proxy<Condition<S, T>, T>() {
-            @Override
-            T getItem() {
-                return sourceProxy.getItem();
-            }
-
-            @Override
-            InternalConfiguration getConfiguration() {
-                return sourceProxy.getConfiguration();
-            }
-
-            @Override
-            Condition<S, T> copy(T item, InternalConfiguration configuration) {
-                return new Condition<>(sourceProxy.copy(item, configuration), predicate, negateExpression);
-            }
-
-            @Override
-            Condition<S, T> owner() {
-                return Condition.this;
-            }
-        };
+        return this;
+    }
+
+    @Override
+    T getItem() {
+        return sourceProxy.getItem();
+    }
+
+    @Override
+    InternalConfiguration getConfiguration() {
+        return sourceProxy.getConfiguration();
+    }
+
+    @Override
+    Condition<S, T> copy(T item, InternalConfiguration configuration) {
+        return new Condition<>(sourceProxy.copy(item, configuration), predicate, negateExpression);
+    }
+
+    @Override
+    Condition<S, T> owner() {
+        return this;
     }
 }
@@ -0,0 +1,253 @@
+package com.chaining;
+
+import com.chaining.functions.DoubleBinaryOperator;
+import com.chaining.functions.DoubleConsumer;
+import com.chaining.functions.DoubleUnaryOperator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.annotations.NonNull;
+
+/**
+ * a {@link Collector} specialized for {@code double} values, the values are stored in a growable
+ * {@code double[]} so no boxing happens while collecting, mapping or reducing them
+ * <p>
+ * similar to {@link Collector}, {@link #and(double)} does not modify the current instance, the
+ * backing array is shared between the instances, and only the last instance on a chain of
+ * {@link #and(double)} calls appends in place, any other instance copies the array before
+ * appending
+ */
+public class DoubleCollector extends PrimitiveCollector<double[], DoubleCollector> {
+
+    DoubleCollector(InternalConfiguration configuration) {
+        this(new double[0], 0, configuration);
+    }
+
+    private DoubleCollector(double[] items, int size, InternalConfiguration configuration) {
+        this(items, size, new AtomicInteger(size), configuration);
+    }
+
+    private DoubleCollector(double[] items,
+                            int size,
+                            AtomicInteger claimedSize,
+                            InternalConfiguration configuration) {
+        super(items, size, claimedSize, configuration);
+    }
+
+    /**
+     * create a {@link DoubleCollector} from an item that can be {@code null}, a {@code double[]},
+     * an {@link Iterable} of {@link Number}s (where {@code null} elements are skipped), or a
+     * single {@link Number}
+     *
+     * @param source        the source item
+     * @param configuration the {@link InternalConfiguration} of the new {@link DoubleCollector}
+     * @return a new {@link DoubleCollector}
+     * @throws UnsupportedOperationException if the source item can not be collected as {@code double}
+     */
+    static DoubleCollector from(Object source, InternalConfiguration configuration) {
+        if (source == null) {
+            return new DoubleCollector(configuration);
+        } else if (source instanceof double[]) {
+            double[] array = (double[]) source;
+            return new DoubleCollector(array.clone(), array.length, configuration);
+        } else if (source instanceof Iterable) {
+            return new DoubleCollector(configuration)
+                    .andAll((Iterable<?>) source, "collectDoubles()");
+        } else if (source instanceof Number) {
+            return new DoubleCollector(new double[]{((Number) source).doubleValue()}, 1, configuration);
+        } else {
+            throw new UnsupportedOperationException("collectDoubles() item type mismatch");
+        }
+    }
+
+    @Override
+    DoubleCollector create(double[] items, int size, AtomicInteger claimedSize) {
+        return new DoubleCollector(items, size, claimedSize, configuration);
+    }
+
+    @Override
+    int capacity(double[] items) {
+        return items.length;
+    }
+
+    @Override
+    double[] copyOf(double[] items, int length) {
+        return Arrays.copyOf(items, length);
+    }
+
+    @Override
+    void set(double[] items, int index, Number value) {
+        items[index] = value.doubleValue();
+    }
+
+    /**
+     * append a value to a new {@link DoubleCollector}, this {@link DoubleCollector} is not modified
+     *
+     * @param item the value to append
+     * @return a new {@link DoubleCollector} holding the current values plus the new value
+     */
+    public DoubleCollector and(double item) {
+        DoubleCollector appended = withNextSlot();
+        appended.items[size] = item;
+        return appended;
+    }
+
+    /**
+     * invoke a mapper on every value in this {@link DoubleCollector}
+     *
+     * @param mapper the mapper {@link DoubleUnaryOperator}
+     * @return a new {@link DoubleCollector} with the mapped values
+     */
+    public DoubleCollector map(@NonNull DoubleUnaryOperator mapper) {
+        double[] mappedItems = new double[size];
+        try {
+            for (int i = 0; i < size; i++) {
+                mappedItems[i] = mapper.apply(items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return new DoubleCollector(mappedItems, size, configuration);
+    }
+
+    /**
+     * iterate over the values and invoke a certain action
+     *
+     * @param action a {@link DoubleConsumer} that will be invoked over all values
+     * @return {@code this} {@link DoubleCollector} after iteration
+     */
+    public DoubleCollector forEach(@NonNull DoubleConsumer action) {
+        try {
+            for (int i = 0; i < size; i++) {
+                action.accept(items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return this;
+    }
+
+    /**
+     * reduce all the values in this {@link DoubleCollector} starting from the passed identity value
+     *
+     * @param identity the initial value of the reduction, which is returned if this
+     *                 {@link DoubleCollector} is empty
+     * @param reducer  the reducer {@link DoubleBinaryOperator}
+     * @return the result of the reduction
+     */
+    public double reduce(double identity, @NonNull DoubleBinaryOperator reducer) {
+        double result = identity;
+        try {
+            for (int i = 0; i < size; i++) {
+                result = reducer.apply(result, items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return result;
+    }
+
+    /**
+     * reduce all the values in this {@link DoubleCollector}
+     *
+     * @param reducer the reducer {@link DoubleBinaryOperator}
+     * @return a {@link Chain} holding the result of the reduction, or holding {@code null} if
+     * this {@link DoubleCollector} is empty
+     */
+    public Chain<Double> reduce(@NonNull DoubleBinaryOperator reducer) {
+        if (size == 0) {
+            return new Chain<>(null, configuration);
+        }
+        double result = items[0];
+        try {
+            for (int i = 1; i < size; i++) {
+                result = reducer.apply(result, items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return new Chain<>(Double.valueOf(result), configuration);
+    }
+
+    /**
+     * sum all the values in this {@link DoubleCollector}
+     *
+     * @return the sum of the values, or {@code 0} if this {@link DoubleCollector} is empty
+     */
+    public double sum() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += items[i];
+        }
+        return sum;
+    }
+
+    /**
+     * get the minimum value in this {@link DoubleCollector}
+     *
+     * @return the minimum value
+     * @throws NoSuchElementException if this {@link DoubleCollector} is empty
+     */
+    public double min() throws NoSuchElementException {
+        double min = first();
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, items[i]);
+        }
+        return min;
+    }
+
+    /**
+     * get the maximum value in this {@link DoubleCollector}
+     *
+     * @return the maximum value
+     * @throws NoSuchElementException if this {@link DoubleCollector} is empty
+     */
+    public double max() throws NoSuchElementException {
+        double max = first();
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, items[i]);
+        }
+        return max;
+    }
+
+    private double first() {
+        if (size == 0) {
+            throw new NoSuchElementException("no values stored in the current " +
+                    DoubleCollector.class.getSimpleName());
+        }
+        return items[0];
+    }
+
+    /**
+     * get the number of values in this {@link DoubleCollector}
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * copy the values of this {@link DoubleCollector} into a new array
+     *
+     * @return a new {@code double[]} holding the values
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(items, size);
+    }
+
+    /**
+     * convert this {@link DoubleCollector} into a {@link Collector} of boxed values
+     *
+     * @return a {@link Collector} holding the boxed values
+     */
+    public Collector<Double> boxed() {
+        ChunkedVector.Builder<Double> boxedItems = new ChunkedVector.Builder<>();
+        for (int i = 0; i < size; i++) {
+            boxedItems.add(items[i]);
+        }
+        return new Collector<>(boxedItems.build(), configuration);
+    }
+}
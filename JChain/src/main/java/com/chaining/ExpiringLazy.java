@@ -0,0 +1,209 @@
+package com.chaining;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * a {@link Lazy} that invokes it's initializer again when the item is older than the time to
+ * live, created by {@link Lazy#expiring(Callable, long, TimeUnit)} and
+ * {@link Lazy#refreshing(Callable, long, TimeUnit, Executor)}
+ * <p>
+ * without a refresh {@link Executor}, the first {@link #call()} after the item expired
+ * initializes it again while the other threads wait, with a refresh {@link Executor} only the
+ * first load blocks, after that an expired item is still returned while one refresh runs on
+ * the {@link Executor}, and the calls that happen during this refresh do not start another one,
+ * a failed refresh keeps the old item, and the next refresh starts after the failure duration of
+ * {@link #cacheFailures(long, TimeUnit)}, or after the time to live if failures are not cached
+ * <p>
+ * the {@link Lazy} returned from {@link #map(Function)} or {@link #apply(Consumer)} expires it's
+ * own item with the same time to live, and it may be created from a source item that was about
+ * to expire, so it's item can be up to twice the time to live old
+ *
+ * @param <T> the type of the item
+ */
+final class ExpiringLazy<T> extends Lazy<T> {
+
+    private final long ttlNanos;
+    private final Executor refreshExecutor;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Entry<T> entry;
+    private volatile long refreshFailedAt;
+    private volatile boolean refreshFailed;
+
+    ExpiringLazy(Callable<T> delayedAction,
+                 long ttlNanos,
+                 Ticker ticker,
+                 Executor refreshExecutor,
+                 long failureNanos) {
+        super(delayedAction, LazyMode.SYNCHRONIZED, failureNanos, ticker);
+        this.ttlNanos = ttlNanos;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public T call() {
+        Entry<T> current = entry;
+        if (current == null) {
+            current = load();
+        } else if (!isFresh(current)) {
+            if (refreshExecutor == null || current.error != null) {
+                current = load();
+            } else {
+                refreshInBackground();
+            }
+        }
+        return current.get();
+    }
+
+    private synchronized Entry<T> load() {
+        Entry<T> current = entry;
+        if (current == null || !isFresh(current)) {
+            current = evaluate();
+            entry = current;
+        }
+        return current;
+    }
+
+    private Entry<T> evaluate() {
+        try {
+            return new Entry<>(delayedAction.call(), null, ticker.read());
+        } catch (Exception e) {
+            RuntimeException error = InternalInvoker.toRuntimeException(e);
+            if (failureNanos <= 0) {
+                throw error;
+            }
+            return new Entry<>(null, error, ticker.read());
+        }
+    }
+
+    private boolean isFresh(Entry<T> current) {
+        long age = ticker.read() - current.loadedAt;
+        return age < (current.error == null ? ttlNanos : failureNanos);
+    }
+
+    private void refreshInBackground() {
+        if (refreshFailed && ticker.read() - refreshFailedAt < retryNanos()) {
+            return;
+        }
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(InternalConfiguration.inCurrentScope(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        entry = new Entry<>(delayedAction.call(), null, ticker.read());
+                        refreshFailed = false;
+                    } catch (Exception e) {
+                        // keep the old item, and do not refresh again until retryNanos() passed
+                        refreshFailedAt = ticker.read();
+                        refreshFailed = true;
+                    } finally {
+                        refreshing.set(false);
+                    }
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private long retryNanos() {
+        return failureNanos > 0 ? failureNanos : ttlNanos;
+    }
+
+    /**
+     * start the first load on the passed {@link Executor}, the {@link #call()} that is invoked
+     * while it is running waits for it on the lock of {@link #load()}
+     */
+    @Override
+    public Lazy<T> prefetch(Executor executor) {
+        if (entry != null) {
+            return this;
+        }
+        try {
+            executor.execute(InternalConfiguration.inCurrentScope(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        load();
+                    } catch (RuntimeException e) {
+                        // the next call() loads the item again
+                    }
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            // the first call() loads the item
+        }
+        return this;
+    }
+
+    /**
+     * create a {@link Lazy} that remembers the crash of it's initializer for the passed
+     * duration, and expires it's item the same way as this {@link Lazy}, the passed
+     * {@link Ticker} is used for both the failures and the time to live
+     */
+    @Override
+    public Lazy<T> cacheFailures(long duration, TimeUnit unit, Ticker ticker) {
+        return new ExpiringLazy<>(delayedAction, ttlNanos, ticker, refreshExecutor,
+                unit.toNanos(duration));
+    }
+
+    /**
+     * convert the item stored in this {@link Lazy} into another item, the returned
+     * {@link Lazy} expires it's item the same way as this {@link Lazy}, but it's time to live
+     * starts when the item is mapped, not when the source item was loaded
+     */
+    @Override
+    public <R> Lazy<R> map(final Function<T, R> mapper) {
+        return new ExpiringLazy<>(new Callable<R>() {
+            @Override
+            public R call() throws Exception {
+                return mapper.apply(ExpiringLazy.this.call());
+            }
+        }, ttlNanos, ticker, refreshExecutor, failureNanos);
+    }
+
+    /**
+     * apply an action to the item stored in this {@link Lazy}, the returned {@link Lazy}
+     * expires it's item the same way as this {@link Lazy}
+     */
+    @Override
+    public Lazy<T> apply(final Consumer<T> lazyAction) {
+        return new ExpiringLazy<>(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                T item = ExpiringLazy.this.call();
+                lazyAction.accept(item);
+                return item;
+            }
+        }, ttlNanos, ticker, refreshExecutor, failureNanos);
+    }
+
+    private static class Entry<T> {
+
+        final T item;
+        final RuntimeException error;
+        final long loadedAt;
+
+        Entry(T item, RuntimeException error, long loadedAt) {
+            this.item = item;
+            this.error = error;
+            this.loadedAt = loadedAt;
+        }
+
+        T get() {
+            if (error != null) {
+                throw error;
+            }
+            return item;
+        }
+    }
+}
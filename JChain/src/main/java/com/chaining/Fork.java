@@ -0,0 +1,232 @@
+package com.chaining;
+
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Triplet;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.reactivex.functions.Function;
+
+/**
+ * runs the mappers of {@link Chain#fork(Function, Function, Executor)} concurrently on the same
+ * item, the first mapper runs on the calling thread and the others on the {@link Executor}, the
+ * results are collected in the order of completion, so the first failure is reported as soon as
+ * it happens, and the siblings that are still running are cancelled (interrupted)
+ */
+class Fork {
+
+    private Fork() {
+    }
+
+    /**
+     * create a {@link Callable} that forks the passed mappers, and joins their results in a
+     * {@link Pair}
+     */
+    @SuppressWarnings("unchecked")
+    static <T, A, B> Callable<Pair<A, B>> pair(final T item,
+                                               final Function<T, A> first,
+                                               final Function<T, B> second,
+                                               final Executor executor) {
+        return new Callable<Pair<A, B>>() {
+            @Override
+            public Pair<A, B> call() throws Exception {
+                Object[] results = invokeAll(item, executor, first, second);
+                return Pair.with((A) results[0], (B) results[1]);
+            }
+        };
+    }
+
+    /**
+     * create a {@link Callable} that forks the passed mappers, and joins their results in a
+     * {@link Triplet}
+     */
+    @SuppressWarnings("unchecked")
+    static <T, A, B, C> Callable<Triplet<A, B, C>> triplet(final T item,
+                                                           final Function<T, A> first,
+                                                           final Function<T, B> second,
+                                                           final Function<T, C> third,
+                                                           final Executor executor) {
+        return new Callable<Triplet<A, B, C>>() {
+            @Override
+            public Triplet<A, B, C> call() throws Exception {
+                Object[] results = invokeAll(item, executor, first, second, third);
+                return Triplet.with((A) results[0], (B) results[1], (C) results[2]);
+            }
+        };
+    }
+
+    /**
+     * create a {@link Callable} that forks the passed mappers, and joins their results in a
+     * {@link Quartet}
+     */
+    @SuppressWarnings("unchecked")
+    static <T, A, B, C, D> Callable<Quartet<A, B, C, D>> quartet(final T item,
+                                                                 final Function<T, A> first,
+                                                                 final Function<T, B> second,
+                                                                 final Function<T, C> third,
+                                                                 final Function<T, D> fourth,
+                                                                 final Executor executor) {
+        return new Callable<Quartet<A, B, C, D>>() {
+            @Override
+            public Quartet<A, B, C, D> call() throws Exception {
+                Object[] results = invokeAll(item, executor, first, second, third, fourth);
+                return Quartet.with((A) results[0], (B) results[1], (C) results[2],
+                        (D) results[3]);
+            }
+        };
+    }
+
+    /**
+     * invoke all the mappers with the passed item, the first mapper runs on the calling thread,
+     * and the other mappers are submitted to the passed {@link Executor}, then the calling thread
+     * runs every mapper that the {@link Executor} did not start yet, so a fork never waits for
+     * a task that is stuck in the queue of a busy {@link Executor}, even if it is invoked from a
+     * thread of the same {@link Executor}
+     *
+     * @param item     the item passed to every mapper
+     * @param executor the {@link Executor} that will invoke the mappers
+     * @param mappers  the mapper {@link Function} instances
+     * @return the results, in the same order of the mappers
+     * @throws Exception the {@link Exception} thrown by the first mapper that crashed
+     */
+    @SafeVarargs
+    static <T> Object[] invokeAll(T item, Executor executor, Function<T, ?>... mappers)
+            throws Exception {
+
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        BlockingQueue<ForkedTask> completed = new LinkedBlockingQueue<>();
+        ForkedTask[] tasks = new ForkedTask[mappers.length];
+        Object[] results = new Object[mappers.length];
+        for (int i = 0; i < mappers.length; i++) {
+            tasks[i] = new ForkedTask(new ForkedMapper<>(mappers[i], item, results, i),
+                    tasks, completed);
+        }
+
+        try {
+            for (int i = 1; i < tasks.length; i++) {
+                submit(tasks[i], executor);
+            }
+            int finished = 0;
+            for (ForkedTask task : tasks) {
+                task.runOnCallingThread();
+                for (ForkedTask done = completed.poll(); done != null; done = completed.poll()) {
+                    done.get();
+                    finished++;
+                }
+            }
+            for (; finished < tasks.length; finished++) {
+                completed.take().get();
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } finally {
+            cancel(tasks);
+        }
+    }
+
+    private static void submit(ForkedTask task, Executor executor) {
+        try {
+            executor.execute(InternalConfiguration.inCurrentScope(task));
+        } catch (RejectedExecutionException e) {
+            // the calling thread runs the task
+        }
+    }
+
+    private static Exception rethrow(Throwable error) {
+        if (error instanceof Exception) {
+            return (Exception) error;
+        } else if (error instanceof Error) {
+            throw (Error) error;
+        } else {
+            return new RuntimeException(error);
+        }
+    }
+
+    private static void cancel(Future<?>[] futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * a mapper of a fork, that can be run by the {@link Executor} or by the calling thread,
+     * which ever starts it first, when it finishes it is added to the completed tasks, and if
+     * it crashed it cancels (interrupts) it's siblings
+     */
+    private static class ForkedTask extends FutureTask<Object> {
+
+        private final ForkedMapper<?> mapper;
+        private final ForkedTask[] siblings;
+        private final BlockingQueue<ForkedTask> completed;
+
+        ForkedTask(ForkedMapper<?> mapper,
+                   ForkedTask[] siblings,
+                   BlockingQueue<ForkedTask> completed) {
+            super(mapper);
+            this.mapper = mapper;
+            this.siblings = siblings;
+            this.completed = completed;
+        }
+
+        /**
+         * run the mapper if it did not start yet, if a crashing sibling cancelled it while it
+         * was running on the calling thread, the interrupt is cleared, since the calling thread
+         * will throw the {@link Exception} of the sibling instead
+         */
+        void runOnCallingThread() {
+            run();
+            if (isCancelled() && mapper.thread == Thread.currentThread()) {
+                Thread.interrupted();
+            }
+        }
+
+        @Override
+        protected void done() {
+            completed.add(this);
+        }
+
+        @Override
+        protected void setException(Throwable error) {
+            super.setException(error);
+            Fork.cancel(siblings);
+        }
+    }
+
+    private static class ForkedMapper<T> implements Callable<Object> {
+
+        private final Function<T, ?> mapper;
+        private final T item;
+        private final Object[] results;
+        private final int index;
+        private volatile Thread thread;
+
+        ForkedMapper(Function<T, ?> mapper, T item, Object[] results, int index) {
+            this.mapper = mapper;
+            this.item = item;
+            this.results = results;
+            this.index = index;
+        }
+
+        @Override
+        public Object call() throws Exception {
+            thread = Thread.currentThread();
+            results[index] = mapper.apply(item);
+            return null;
+        }
+    }
+}
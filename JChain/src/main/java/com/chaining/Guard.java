@@ -1,9 +1,8 @@
 package com.chaining;
 
 
-import com.functional.curry.Invoker;
-
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 import io.reactivex.annotations.NonNull;
 import io.reactivex.functions.BiConsumer;
@@ -18,7 +17,8 @@ import io.reactivex.functions.Function;
  * <p>
  * Created by Ahmed Adel Ismail on 11/1/2017.
  */
-public class Guard<S extends Internal<S, T>, T> implements Internal<Guard<S, T>, T>
+public class Guard<S extends Internal<S, T>, T> extends Proxy<Guard<S, T>, T>
+        implements Internal<Guard<S, T>, T>
 {
 
     private final Proxy<S, T> proxy;
@@ -56,10 +56,32 @@ public class Guard<S extends Internal<S, T>, T> implements Internal<Guard<S, T>,
      * @return a {@link Guard} to handle fallback scenarios
      */
     public static <T> Guard<Chain<T>, T> call(@NonNull Callable<T> callable) {
-        return new Guard<>(new Chain<T>(null, InternalConfiguration.getInstance(null)).access(),
+        return new Guard<>(new Chain<T>(null, InternalConfiguration.current()).access(),
                 callable);
     }
 
+    /**
+     * execute the passed {@link Callable} safely on the passed {@link Executor}, without
+     * blocking the current thread, the returned {@link AsyncChain} never fails because of the
+     * {@link Callable}, as the {@link Exception} (if thrown) is held by the {@link Guard}
+     *
+     * @param callable a {@link Callable} that may crash
+     * @param executor the {@link Executor} that will execute the {@link Callable}, like
+     *                 {@link ChainExecutors#virtual()}
+     * @param <T>      the type of the returned item
+     * @return an {@link AsyncChain} that will hold the {@link Guard}
+     */
+    public static <T> AsyncChain<Guard<Chain<T>, T>> async(@NonNull final Callable<T> callable,
+                                                          @NonNull Executor executor) {
+        final InternalConfiguration configuration = InternalConfiguration.current();
+        return AsyncChain.call(new Callable<Guard<Chain<T>, T>>() {
+            @Override
+            public Guard<Chain<T>, T> call() {
+                return new Guard<>(new Chain<T>(null, configuration).access(), callable);
+            }
+        }, executor);
+    }
+
 
     /**
      * provide a fallback item if the {@link Callable} that was passed to this {@link Guard}
@@ -109,7 +131,7 @@ public class Guard<S extends Internal<S, T>, T> implements Internal<Guard<S, T>,
      */
     public Guard<S, T> apply(Consumer<T> action) {
         if (error == null) {
-            Invoker.invoke(action, proxy.getItem());
+            InternalInvoker.invoke(action, proxy.getItem());
         }
         return new Guard<>(proxy, error);
     }
@@ -123,7 +145,7 @@ public class Guard<S extends Internal<S, T>, T> implements Internal<Guard<S, T>,
      */
     public S onErrorReturn(@NonNull Function<Throwable, T> function) {
         if (error != null) {
-            return proxy.copy(Invoker.invoke(function, error));
+            return proxy.copy(InternalInvoker.invoke(function, error));
         } else {
             return proxy.owner();
         }
@@ -139,7 +161,7 @@ public class Guard<S extends Internal<S, T>, T> implements Internal<Guard<S, T>,
      */
     public void onError(Consumer<Exception> consumer) {
         if (error != null) {
-            Invoker.invoke(consumer, error);
+            InternalInvoker.invoke(consumer, error);
         }
     }
 
@@ -175,34 +197,34 @@ public class Guard<S extends Internal<S, T>, T> implements Internal<Guard<S, T>,
 
     @Override
     public Proxy<Guard<S, T>, T> access() {
-        return new Proxy<Guard<S, T>, T>()
-        {
-            @Override
-            Guard<S, T> copy(T item, InternalConfiguration configuration) {
-                return new Guard<>(proxy.copy(item).access(), error);
-            }
+        return this;
+    }
 
-            @Override
-            InternalConfiguration getConfiguration() {
-                return proxy.getConfiguration();
-            }
+    @Override
+    Guard<S, T> copy(T item, InternalConfiguration configuration) {
+        return new Guard<>(proxy.copy(item).access(), error);
+    }
 
-            @Override
-            T getItem() {
-                return proxy.getItem();
-            }
+    @Override
+    InternalConfiguration getConfiguration() {
+        return proxy.getConfiguration();
+    }
 
-            @Override
-            Guard<S, T> owner() {
-                return Guard.this;
-            }
-        };
+    @Override
+    T getItem() {
+        return proxy.getItem();
+    }
+
+    @Override
+    Guard<S, T> owner() {
+        return this;
     }
 
 
     public <R> Optional<R> onErrorMap(Function<Throwable, R> mapperFunction) {
         if (error != null) {
-            return new Optional<>(Invoker.invoke(mapperFunction, error), proxy.getConfiguration());
+            return new Optional<>(InternalInvoker.invoke(mapperFunction, error),
+                    proxy.getConfiguration());
         } else {
             return new Optional<>(null, proxy.getConfiguration());
         }
@@ -0,0 +1,252 @@
+package com.chaining;
+
+import com.chaining.functions.IntBinaryOperator;
+import com.chaining.functions.IntConsumer;
+import com.chaining.functions.IntUnaryOperator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.annotations.NonNull;
+
+/**
+ * a {@link Collector} specialized for {@code int} values, the values are stored in a growable
+ * {@code int[]} so no boxing happens while collecting, mapping or reducing them
+ * <p>
+ * similar to {@link Collector}, {@link #and(int)} does not modify the current instance, the
+ * backing array is shared between the instances, and only the last instance on a chain of
+ * {@link #and(int)} calls appends in place, any other instance copies the array before
+ * appending
+ */
+public class IntCollector extends PrimitiveCollector<int[], IntCollector> {
+
+    IntCollector(InternalConfiguration configuration) {
+        this(new int[0], 0, configuration);
+    }
+
+    private IntCollector(int[] items, int size, InternalConfiguration configuration) {
+        this(items, size, new AtomicInteger(size), configuration);
+    }
+
+    private IntCollector(int[] items,
+                         int size,
+                         AtomicInteger claimedSize,
+                         InternalConfiguration configuration) {
+        super(items, size, claimedSize, configuration);
+    }
+
+    /**
+     * create a {@link IntCollector} from an item that can be {@code null}, a {@code int[]},
+     * an {@link Iterable} of {@link Number}s (where {@code null} elements are skipped), or a
+     * single {@link Number}
+     *
+     * @param source        the source item
+     * @param configuration the {@link InternalConfiguration} of the new {@link IntCollector}
+     * @return a new {@link IntCollector}
+     * @throws UnsupportedOperationException if the source item can not be collected as {@code int}
+     */
+    static IntCollector from(Object source, InternalConfiguration configuration) {
+        if (source == null) {
+            return new IntCollector(configuration);
+        } else if (source instanceof int[]) {
+            int[] array = (int[]) source;
+            return new IntCollector(array.clone(), array.length, configuration);
+        } else if (source instanceof Iterable) {
+            return new IntCollector(configuration).andAll((Iterable<?>) source, "collectInts()");
+        } else if (source instanceof Number) {
+            return new IntCollector(new int[]{((Number) source).intValue()}, 1, configuration);
+        } else {
+            throw new UnsupportedOperationException("collectInts() item type mismatch");
+        }
+    }
+
+    @Override
+    IntCollector create(int[] items, int size, AtomicInteger claimedSize) {
+        return new IntCollector(items, size, claimedSize, configuration);
+    }
+
+    @Override
+    int capacity(int[] items) {
+        return items.length;
+    }
+
+    @Override
+    int[] copyOf(int[] items, int length) {
+        return Arrays.copyOf(items, length);
+    }
+
+    @Override
+    void set(int[] items, int index, Number value) {
+        items[index] = value.intValue();
+    }
+
+    /**
+     * append a value to a new {@link IntCollector}, this {@link IntCollector} is not modified
+     *
+     * @param item the value to append
+     * @return a new {@link IntCollector} holding the current values plus the new value
+     */
+    public IntCollector and(int item) {
+        IntCollector appended = withNextSlot();
+        appended.items[size] = item;
+        return appended;
+    }
+
+    /**
+     * invoke a mapper on every value in this {@link IntCollector}
+     *
+     * @param mapper the mapper {@link IntUnaryOperator}
+     * @return a new {@link IntCollector} with the mapped values
+     */
+    public IntCollector map(@NonNull IntUnaryOperator mapper) {
+        int[] mappedItems = new int[size];
+        try {
+            for (int i = 0; i < size; i++) {
+                mappedItems[i] = mapper.apply(items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return new IntCollector(mappedItems, size, configuration);
+    }
+
+    /**
+     * iterate over the values and invoke a certain action
+     *
+     * @param action a {@link IntConsumer} that will be invoked over all values
+     * @return {@code this} {@link IntCollector} after iteration
+     */
+    public IntCollector forEach(@NonNull IntConsumer action) {
+        try {
+            for (int i = 0; i < size; i++) {
+                action.accept(items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return this;
+    }
+
+    /**
+     * reduce all the values in this {@link IntCollector} starting from the passed identity value
+     *
+     * @param identity the initial value of the reduction, which is returned if this
+     *                 {@link IntCollector} is empty
+     * @param reducer  the reducer {@link IntBinaryOperator}
+     * @return the result of the reduction
+     */
+    public int reduce(int identity, @NonNull IntBinaryOperator reducer) {
+        int result = identity;
+        try {
+            for (int i = 0; i < size; i++) {
+                result = reducer.apply(result, items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return result;
+    }
+
+    /**
+     * reduce all the values in this {@link IntCollector}
+     *
+     * @param reducer the reducer {@link IntBinaryOperator}
+     * @return a {@link Chain} holding the result of the reduction, or holding {@code null} if
+     * this {@link IntCollector} is empty
+     */
+    public Chain<Integer> reduce(@NonNull IntBinaryOperator reducer) {
+        if (size == 0) {
+            return new Chain<>(null, configuration);
+        }
+        int result = items[0];
+        try {
+            for (int i = 1; i < size; i++) {
+                result = reducer.apply(result, items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return new Chain<>(Integer.valueOf(result), configuration);
+    }
+
+    /**
+     * sum all the values in this {@link IntCollector}
+     *
+     * @return the sum of the values, or {@code 0} if this {@link IntCollector} is empty
+     */
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += items[i];
+        }
+        return sum;
+    }
+
+    /**
+     * get the minimum value in this {@link IntCollector}
+     *
+     * @return the minimum value
+     * @throws NoSuchElementException if this {@link IntCollector} is empty
+     */
+    public int min() throws NoSuchElementException {
+        int min = first();
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, items[i]);
+        }
+        return min;
+    }
+
+    /**
+     * get the maximum value in this {@link IntCollector}
+     *
+     * @return the maximum value
+     * @throws NoSuchElementException if this {@link IntCollector} is empty
+     */
+    public int max() throws NoSuchElementException {
+        int max = first();
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, items[i]);
+        }
+        return max;
+    }
+
+    private int first() {
+        if (size == 0) {
+            throw new NoSuchElementException("no values stored in the current " +
+                    IntCollector.class.getSimpleName());
+        }
+        return items[0];
+    }
+
+    /**
+     * get the number of values in this {@link IntCollector}
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * copy the values of this {@link IntCollector} into a new array
+     *
+     * @return a new {@code int[]} holding the values
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(items, size);
+    }
+
+    /**
+     * convert this {@link IntCollector} into a {@link Collector} of boxed values
+     *
+     * @return a {@link Collector} holding the boxed values
+     */
+    public Collector<Integer> boxed() {
+        ChunkedVector.Builder<Integer> boxedItems = new ChunkedVector.Builder<>();
+        for (int i = 0; i < size; i++) {
+            boxedItems.add(items[i]);
+        }
+        return new Collector<>(boxedItems.build(), configuration);
+    }
+}
@@ -1,37 +1,128 @@
 package com.chaining;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import io.reactivex.functions.BiConsumer;
 
 /**
  * an internal class for handling configurations for the Chain library
  * <p>
+ * looking up an instance does not take any lock, the default instance (with the {@code null}
+ * key) is created once and cached, and the keyed instances are kept in a
+ * {@link ConcurrentHashMap}, the fields are {@code volatile} so that updating them on one thread
+ * is visible to the chains on the other threads
+ * <p>
+ * new chains start with the {@link #current()} instance, which is the instance of the scope
+ * running on the current thread (see {@link ChainConfiguration#scope()}), or the default
+ * instance
+ * <p>
  * Created by Ahmed Adel Ismail on 12/6/2017.
  */
 class InternalConfiguration {
 
-    private static final Map<Object, InternalConfiguration> instances = new LinkedHashMap<>();
+    private static final InternalConfiguration defaultInstance = new InternalConfiguration();
+    private static final ConcurrentMap<Object, InternalConfiguration> instances =
+            new ConcurrentHashMap<>();
+    private static final ThreadLocal<InternalConfiguration> scopedInstance = new ThreadLocal<>();
 
-    private boolean debugging;
-    private boolean logging;
-    private BiConsumer<Object, Object> infoLogger;
-    private BiConsumer<Object, Object> errorLogger;
-    private BiConsumer<Object, Throwable> exceptionLogger;
+    private volatile boolean debugging;
+    private volatile boolean logging;
+    private volatile BiConsumer<Object, Object> infoLogger;
+    private volatile BiConsumer<Object, Object> errorLogger;
+    private volatile BiConsumer<Object, Throwable> exceptionLogger;
 
     private InternalConfiguration() {
     }
 
-    synchronized static InternalConfiguration getInstance(Object key) {
+    static InternalConfiguration getInstance(Object key) {
+        if (key == null) {
+            return defaultInstance;
+        }
         InternalConfiguration instance = instances.get(key);
         if (instance == null) {
-            instance = new InternalConfiguration();
-            instances.put(key, instance);
+            instance = createInstance(key);
         }
         return instance;
     }
 
+    private static InternalConfiguration createInstance(Object key) {
+        InternalConfiguration instance = new InternalConfiguration();
+        InternalConfiguration existingInstance = instances.putIfAbsent(key, instance);
+        return existingInstance != null ? existingInstance : instance;
+    }
+
+    /**
+     * create an instance for a scope, it is not kept in the keyed instances, so it is garbage
+     * collected when the scope is not used any more
+     *
+     * @return a new {@link InternalConfiguration}
+     */
+    static InternalConfiguration newScopedInstance() {
+        return new InternalConfiguration();
+    }
+
+    /**
+     * get the instance of the scope that is running on the current thread, or the default
+     * instance if no scope is running, this is the instance that new chains start with
+     *
+     * @return the current {@link InternalConfiguration}
+     */
+    static InternalConfiguration current() {
+        InternalConfiguration instance = scopedInstance.get();
+        return instance != null ? instance : defaultInstance;
+    }
+
+    /**
+     * make the passed instance the {@link #current()} instance on the current thread
+     *
+     * @param instance the instance of the scope
+     * @return the instance that was scoped before, to be passed to {@link #exitScope(InternalConfiguration)}
+     */
+    static InternalConfiguration enterScope(InternalConfiguration instance) {
+        InternalConfiguration previousInstance = scopedInstance.get();
+        scopedInstance.set(instance);
+        return previousInstance;
+    }
+
+    /**
+     * restore the instance that was scoped before {@link #enterScope(InternalConfiguration)}
+     *
+     * @param previousInstance the value returned from {@link #enterScope(InternalConfiguration)}
+     */
+    static void exitScope(InternalConfiguration previousInstance) {
+        if (previousInstance != null) {
+            scopedInstance.set(previousInstance);
+        } else {
+            scopedInstance.remove();
+        }
+    }
+
+    /**
+     * wrap the passed task so it runs in the scope that is running on the current thread, so the
+     * chains it creates on another thread start with the same instance, if no scope is running
+     * the task is returned as is
+     *
+     * @param task the task that will run later, like on an {@link java.util.concurrent.Executor}
+     * @return a task that enters the current scope while running the passed task
+     */
+    static Runnable inCurrentScope(final Runnable task) {
+        final InternalConfiguration instance = scopedInstance.get();
+        if (instance == null) {
+            return task;
+        }
+        return new Runnable() {
+            @Override
+            public void run() {
+                InternalConfiguration previousInstance = enterScope(instance);
+                try {
+                    task.run();
+                } finally {
+                    exitScope(previousInstance);
+                }
+            }
+        };
+    }
 
     boolean isDebugging() {
         return debugging;
@@ -0,0 +1,103 @@
+package com.chaining;
+
+import com.functional.curry.Invoker;
+
+import java.util.concurrent.Callable;
+
+import io.reactivex.functions.Action;
+import io.reactivex.functions.BiConsumer;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.BiPredicate;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * an internal class that invokes the functional interfaces passed to the library, and converts
+ * the thrown {@link Exception} to a {@link RuntimeException} the same way
+ * {@link Invoker#invoke(Function, Object)} does
+ * <p>
+ * every method calls the function directly, and keeps the conversion in
+ * {@link #toRuntimeException(Exception)}, which is invoked only when an {@link Exception} is
+ * thrown, so the methods stay small enough to be inlined by the JIT compiler
+ */
+final class InternalInvoker {
+
+    private InternalInvoker() {
+    }
+
+    static <T> T invoke(Callable<T> callable) {
+        try {
+            return callable.call();
+        } catch (Exception e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    static void invoke(Action action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    static <T> void invoke(Consumer<T> consumer, T item) {
+        try {
+            consumer.accept(item);
+        } catch (Exception e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    static <T, R> R invoke(Function<T, R> function, T item) {
+        try {
+            return function.apply(item);
+        } catch (Exception e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    static <T> boolean invoke(Predicate<T> predicate, T item) {
+        try {
+            return predicate.test(item);
+        } catch (Exception e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    static <A, B> void invoke(BiConsumer<A, B> consumer, A first, B second) {
+        try {
+            consumer.accept(first, second);
+        } catch (Exception e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    static <A, B, R> R invoke(BiFunction<A, B, R> function, A first, B second) {
+        try {
+            return function.apply(first, second);
+        } catch (Exception e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    static <A, B> boolean invoke(BiPredicate<A, B> predicate, A first, B second) {
+        try {
+            return predicate.test(first, second);
+        } catch (Exception e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    /**
+     * convert the passed {@link Exception} through {@link Invoker.RuntimeExceptionConverter},
+     * a {@link RuntimeException} is returned as is, and a checked {@link Exception} is wrapped
+     *
+     * @param e the thrown {@link Exception}
+     * @return the {@link RuntimeException} to be thrown
+     */
+    static RuntimeException toRuntimeException(Exception e) {
+        return new Invoker.RuntimeExceptionConverter().apply(e);
+    }
+}
@@ -3,9 +3,14 @@ package com.chaining;
 import com.chaining.interfaces.Functor;
 import com.chaining.interfaces.Monad;
 import com.functional.curry.Curry;
-import com.functional.curry.Invoker;
 
+import java.util.Collection;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import io.reactivex.functions.Consumer;
 import io.reactivex.functions.Function;
@@ -14,15 +19,40 @@ import io.reactivex.functions.Function;
  * a state of the Chain that does not take action until it's {@link #call()} or {@link #flatMap(Function)}
  * methods are invoked
  * <p>
+ * the item is initialized once even if {@link #call()} is invoked from multiple threads, unless
+ * a different {@link LazyMode} is passed to {@link #defer(Callable, LazyMode)}, the
+ * {@link Lazy} instances created by {@link #map(Function)} and {@link #apply(Consumer)} use the
+ * same {@link LazyMode}
+ * <p>
  * Created by Ahmed Adel Ismail on 1/28/2018.
  */
 public class Lazy<T> implements Callable<T>, Monad<T>, Functor<T>, Function<Consumer<T>, Lazy<T>> {
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Lazy, Object> ITEM_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(Lazy.class, Object.class, "item");
+
+    /**
+     * the value stored when the initializer returned {@code null}, so a {@code null} item is
+     * not confused with an item that is not initialized yet
+     */
+    private static final Object NULL_ITEM = new Object();
+
     final Callable<T> delayedAction;
-    T item;
+    final LazyMode mode;
+    final long failureNanos;
+    final Ticker ticker;
+    volatile Object item;
 
     Lazy(Callable<T> delayedAction) {
+        this(delayedAction, LazyMode.SYNCHRONIZED, 0, Ticker.systemTicker());
+    }
+
+    Lazy(Callable<T> delayedAction, LazyMode mode, long failureNanos, Ticker ticker) {
         this.delayedAction = delayedAction;
+        this.mode = mode;
+        this.failureNanos = failureNanos;
+        this.ticker = ticker;
     }
 
     /**
@@ -41,22 +71,236 @@ public class Lazy<T> implements Callable<T>, Monad<T>, Functor<T>, Function<Cons
 
     @Override
     public <R> R flatMap(Function<T, R> flatMapper) {
-        return Invoker.invoke(flatMapper, call());
+        return InternalInvoker.invoke(flatMapper, call());
     }
 
     /**
      * request the item in this {@link Lazy} instance, if the item was not initialized before, it
      * will initialize it for the first time only, then it will act as a normal getter to the item
-     * held in this {@link Lazy} instance
+     * held in this {@link Lazy} instance, a {@code null} item is initialized once as well
      *
      * @return the item stored if initialized, or initialize and get the item if not initialized
+     * @throws RuntimeException if the initializer crashed, or the crash is still cached through
+     *                          {@link #cacheFailures(long, TimeUnit)}
      */
     @Override
     public T call() {
-        if (item == null) {
-            item = Invoker.invoke(delayedAction);
+        Object value = awaitPrefetch(item);
+        if (!isInitialized(value)) {
+            switch (mode) {
+                case SYNCHRONIZED:
+                    value = initializeSynchronized();
+                    break;
+                case PUBLICATION:
+                    value = initializePublication(value);
+                    break;
+                default:
+                    value = evaluate();
+                    item = value;
+            }
+        }
+        return unwrap(value);
+    }
+
+    /**
+     * publish an in-flight {@link Promise} through the same compare-and-set as
+     * {@link #prefetch(Executor)}, so the initializer is invoked once, and the threads that call
+     * {@link #call()} or {@link #prefetch(Executor)} while it is running wait for the same item
+     */
+    private Object initializeSynchronized() {
+        while (true) {
+            Object current = item;
+            if (current instanceof Promise) {
+                return awaitPrefetch(current);
+            } else if (isInitialized(current)) {
+                return current;
+            }
+            Promise<Object> inFlight = new Promise<>();
+            if (ITEM_UPDATER.compareAndSet(this, current, inFlight)) {
+                return complete(inFlight);
+            }
+        }
+    }
+
+    /**
+     * invoke the initializer for the in-flight {@link Promise} that was published in
+     * {@link #item}, then replace it with the result, or remove it if the initializer crashed
+     */
+    private Object complete(Promise<Object> inFlight) {
+        Object value;
+        try {
+            value = evaluate();
+        } catch (RuntimeException | Error e) {
+            ITEM_UPDATER.compareAndSet(this, inFlight, null);
+            inFlight.fail(e);
+            throw e;
+        }
+        ITEM_UPDATER.compareAndSet(this, inFlight, value);
+        inFlight.succeed(value);
+        return value;
+    }
+
+    /**
+     * invoke the initializer without a lock, and keep the first item that is published, so
+     * every thread returns the same item even if the initializer was invoked many times
+     */
+    private Object initializePublication(Object expected) {
+        Object value = evaluate();
+        if (ITEM_UPDATER.compareAndSet(this, expected, value)) {
+            return value;
+        }
+        Object published = awaitPrefetch(item);
+        return isInitialized(published) ? published : value;
+    }
+
+    /**
+     * invoke the initializer, and return the value to be stored, a failure is returned only if
+     * it should be cached, else it is thrown
+     */
+    private Object evaluate() {
+        try {
+            T result = delayedAction.call();
+            return result != null ? result : NULL_ITEM;
+        } catch (Exception e) {
+            RuntimeException error = InternalInvoker.toRuntimeException(e);
+            if (failureNanos <= 0) {
+                throw error;
+            }
+            return new Failure(error, ticker.read());
+        }
+    }
+
+    private boolean isInitialized(Object value) {
+        return value != null
+                && !(value instanceof Promise)
+                && (!(value instanceof Failure) || !((Failure) value).isExpired(failureNanos, ticker));
+    }
+
+    /**
+     * if the passed value is the {@link Promise} of a running {@link #prefetch(Executor)}, wait
+     * for it and return the value it stored, else return the passed value
+     */
+    private static Object awaitPrefetch(Object value) {
+        if (!(value instanceof Promise)) {
+            return value;
+        }
+        try {
+            return ((Promise<?>) value).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw InternalInvoker.toRuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable error = e.getCause();
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            } else if (error instanceof Error) {
+                throw (Error) error;
+            } else {
+                throw new RuntimeException(error);
+            }
+        }
+    }
+
+    /**
+     * start initializing the item on the passed {@link Executor} and return immediately, a
+     * {@link #call()} that is invoked while the initialization is running waits for it instead
+     * of invoking the initializer again, if the item is already initialized or being
+     * initialized, or the {@link Executor} rejected the task, nothing happens, and the item is
+     * initialized by {@link #call()} as usual
+     *
+     * @param executor the {@link Executor} that will initialize the item
+     * @return {@code this} instance for chaining
+     */
+    public Lazy<T> prefetch(Executor executor) {
+        final Object current = item;
+        if (isInitialized(current) || current instanceof Promise) {
+            return this;
+        }
+        final Promise<Object> inFlight = new Promise<>();
+        if (!ITEM_UPDATER.compareAndSet(this, current, inFlight)) {
+            return this;
         }
-        return item;
+        try {
+            executor.execute(InternalConfiguration.inCurrentScope(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        complete(inFlight);
+                    } catch (RuntimeException | Error e) {
+                        // the waiting threads receive the error through the Promise
+                    }
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            ITEM_UPDATER.compareAndSet(this, inFlight, null);
+            inFlight.fail(e);
+        }
+        return this;
+    }
+
+    /**
+     * invoke {@link #prefetch(Executor)} on all the passed {@link Lazy} instances, so they are
+     * initialized in the background, like the {@link Lazy} instances created at start-up that
+     * are needed shortly after
+     *
+     * @param lazies   the {@link Lazy} instances to initialize
+     * @param executor the {@link Executor} that will initialize them
+     */
+    public static void prefetchAll(Collection<? extends Lazy<?>> lazies, Executor executor) {
+        for (Lazy<?> lazy : lazies) {
+            lazy.prefetch(executor);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T unwrap(Object value) {
+        if (value == NULL_ITEM) {
+            return null;
+        } else if (value instanceof Failure) {
+            throw ((Failure) value).error;
+        } else {
+            return (T) value;
+        }
+    }
+
+    /**
+     * create a {@link Lazy} that remembers the crash of it's initializer for the passed
+     * duration, so while the duration is not passed, {@link #call()} throws the same
+     * {@link RuntimeException} without invoking the initializer again, by default a crashing
+     * initializer is invoked again on every {@link #call()}
+     *
+     * @param duration the duration to remember the crash, pass {@link Long#MAX_VALUE} to
+     *                 remember it forever
+     * @param unit     the {@link TimeUnit} of the duration
+     * @return a new {@link Lazy} that caches the crash of the same initializer
+     */
+    public Lazy<T> cacheFailures(long duration, TimeUnit unit) {
+        return cacheFailures(duration, unit, ticker);
+    }
+
+    /**
+     * create a {@link Lazy} that remembers the crash of it's initializer, similar to
+     * {@link #cacheFailures(long, TimeUnit)}, but reads the time from the passed {@link Ticker}
+     *
+     * @param duration the duration to remember the crash
+     * @param unit     the {@link TimeUnit} of the duration
+     * @param ticker   the {@link Ticker} that reads the time
+     * @return a new {@link Lazy} that caches the crash of the same initializer
+     */
+    public Lazy<T> cacheFailures(long duration, TimeUnit unit, Ticker ticker) {
+        return new Lazy<>(delayedAction, mode, unit.toNanos(duration), ticker);
+    }
+
+    /**
+     * request the item in this {@link Lazy} instance on the passed {@link Executor}, without
+     * blocking the current thread, this is useful when the initializer blocks, as it can run on
+     * {@link ChainExecutors#virtual()}
+     *
+     * @param executor the {@link Executor} that will invoke {@link #call()}
+     * @return an {@link AsyncChain} that will hold the item
+     */
+    public AsyncChain<T> callAsync(Executor executor) {
+        return AsyncChain.call(this, executor);
     }
 
     /**
@@ -72,12 +316,12 @@ public class Lazy<T> implements Callable<T>, Monad<T>, Functor<T>, Function<Cons
      * is invoked
      */
     public <R> Lazy<R> map(final Function<T, R> mapper) {
-        return Lazy.defer(new Callable<R>() {
+        return new Lazy<>(new Callable<R>() {
             @Override
             public R call() throws Exception {
                 return mapper.apply(Lazy.this.call());
             }
-        });
+        }, mode, failureNanos, ticker);
     }
 
     /**
@@ -93,6 +337,105 @@ public class Lazy<T> implements Callable<T>, Monad<T>, Functor<T>, Function<Cons
         return new Lazy<>(delayedInitializer);
     }
 
+    /**
+     * create a {@link Lazy} that will invoke the passed {@link Callable}
+     * when {@link #call()} is invoked the first time, and initializes it's item through the
+     * passed {@link LazyMode} when {@link #call()} is invoked from multiple threads
+     *
+     * @param delayedInitializer the {@link Callable} that will be called later
+     * @param mode               the {@link LazyMode} of initialization
+     * @param <T>                the expected item type
+     * @return a {@link Lazy} that will invoke the passed {@link Callable} when invoking
+     * {@link #call()} or {@link #flatMap(Function)}
+     */
+    public static <T> Lazy<T> defer(Callable<T> delayedInitializer, LazyMode mode) {
+        return new Lazy<>(delayedInitializer, mode, 0, Ticker.systemTicker());
+    }
+
+    /**
+     * create a {@link Lazy} that invokes the passed {@link Callable} when {@link #call()} is
+     * invoked the first time, and again when {@link #call()} is invoked after the item became
+     * older than the passed time to live, the other threads wait while the item is initialized
+     * <p>
+     * the {@link Lazy} returned from {@link #map(Function)} expires the mapped item with the
+     * same time to live, counted from the time it was mapped, so the mapped item can be up to
+     * twice the time to live old
+     *
+     * @param delayedInitializer the {@link Callable} that will be called later
+     * @param ttl                the time to live of the item
+     * @param unit               the {@link TimeUnit} of the time to live
+     * @param <T>                the expected item type
+     * @return a {@link Lazy} that expires it's item
+     */
+    public static <T> Lazy<T> expiring(Callable<T> delayedInitializer, long ttl, TimeUnit unit) {
+        return expiring(delayedInitializer, ttl, unit, Ticker.systemTicker());
+    }
+
+    /**
+     * create a {@link Lazy} that expires it's item, similar to
+     * {@link #expiring(Callable, long, TimeUnit)}, but reads the time from the passed
+     * {@link Ticker}
+     *
+     * @param delayedInitializer the {@link Callable} that will be called later
+     * @param ttl                the time to live of the item
+     * @param unit               the {@link TimeUnit} of the time to live
+     * @param ticker             the {@link Ticker} that reads the time
+     * @param <T>                the expected item type
+     * @return a {@link Lazy} that expires it's item
+     */
+    public static <T> Lazy<T> expiring(Callable<T> delayedInitializer,
+                                       long ttl,
+                                       TimeUnit unit,
+                                       Ticker ticker) {
+        return new ExpiringLazy<>(delayedInitializer, unit.toNanos(ttl), ticker, null, 0);
+    }
+
+    /**
+     * create a {@link Lazy} that invokes the passed {@link Callable} when {@link #call()} is
+     * invoked the first time, and when the item becomes older than the passed time to live, it
+     * is refreshed on the passed {@link Executor}, while the old item is still returned, so only
+     * the first {@link #call()} blocks, and only one refresh runs at a time
+     * <p>
+     * when a refresh crashes, the old item is kept, and the next refresh starts after the
+     * failure duration of {@link #cacheFailures(long, TimeUnit)}, or after another time to live
+     * if failures are not cached, so a failing {@link Callable} is not invoked on every
+     * {@link #call()}
+     *
+     * @param delayedInitializer the {@link Callable} that will be called later
+     * @param ttl                the time to live of the item
+     * @param unit               the {@link TimeUnit} of the time to live
+     * @param executor           the {@link Executor} that refreshes the item
+     * @param <T>                the expected item type
+     * @return a {@link Lazy} that refreshes it's item in the background
+     */
+    public static <T> Lazy<T> refreshing(Callable<T> delayedInitializer,
+                                         long ttl,
+                                         TimeUnit unit,
+                                         Executor executor) {
+        return refreshing(delayedInitializer, ttl, unit, executor, Ticker.systemTicker());
+    }
+
+    /**
+     * create a {@link Lazy} that refreshes it's item in the background, similar to
+     * {@link #refreshing(Callable, long, TimeUnit, Executor)}, but reads the time from the
+     * passed {@link Ticker}
+     *
+     * @param delayedInitializer the {@link Callable} that will be called later
+     * @param ttl                the time to live of the item
+     * @param unit               the {@link TimeUnit} of the time to live
+     * @param executor           the {@link Executor} that refreshes the item
+     * @param ticker             the {@link Ticker} that reads the time
+     * @param <T>                the expected item type
+     * @return a {@link Lazy} that refreshes it's item in the background
+     */
+    public static <T> Lazy<T> refreshing(Callable<T> delayedInitializer,
+                                         long ttl,
+                                         TimeUnit unit,
+                                         Executor executor,
+                                         Ticker ticker) {
+        return new ExpiringLazy<>(delayedInitializer, unit.toNanos(ttl), ticker, executor, 0);
+    }
+
     /**
      * lazily apply an action to the stored item in this {@link Lazy}, the operation will not be
      * executed unless the {@link #call()} or {@link #flatMap(Function)} methods are invoked, so
@@ -106,13 +449,31 @@ public class Lazy<T> implements Callable<T>, Monad<T>, Functor<T>, Function<Cons
      */
     @Override
     public Lazy<T> apply(final Consumer<T> lazyAction) {
-        return Lazy.defer(new Callable<T>() {
+        return new Lazy<>(new Callable<T>() {
             @Override
             public T call() throws Exception {
                 T item = Lazy.this.call();
                 lazyAction.accept(item);
                 return item;
             }
-        });
+        }, mode, failureNanos, ticker);
+    }
+
+    /**
+     * a crash of the initializer that is remembered through {@link #cacheFailures(long, TimeUnit)}
+     */
+    private static class Failure {
+
+        final RuntimeException error;
+        private final long failedAt;
+
+        Failure(RuntimeException error, long failedAt) {
+            this.error = error;
+            this.failedAt = failedAt;
+        }
+
+        boolean isExpired(long failureNanos, Ticker ticker) {
+            return ticker.read() - failedAt >= failureNanos;
+        }
     }
 }
@@ -0,0 +1,267 @@
+package com.chaining;
+
+import com.chaining.interfaces.Functor;
+import com.chaining.interfaces.Monad;
+
+import java.util.List;
+
+import io.reactivex.annotations.NonNull;
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * a {@link Collector} that does not execute it's {@link #map(Function)},
+ * {@link #filter(Predicate)} and {@link #peek(Consumer)} operations when they are invoked, it
+ * records them as stages, then when a terminal operation like {@link #toList()},
+ * {@link #reduce(BiFunction)}, {@link #forEach(Consumer)} or {@link #flatMap(Function)} is
+ * invoked, all the recorded stages are fused and executed in one pass over the collected items,
+ * without creating an intermediate {@link List} for every stage
+ * <p>
+ * every terminal operation executes the recorded stages again
+ *
+ * @param <T> the type of the items after the recorded stages
+ */
+public class LazyCollector<T> implements Monad<List<T>>, Functor<T> {
+
+    private final ChunkedVector<?> source;
+    private final Stage<T> stage;
+    private final InternalConfiguration configuration;
+
+    LazyCollector(ChunkedVector<T> source, InternalConfiguration configuration) {
+        this(source, new SourceStage<T>(), configuration);
+    }
+
+    private LazyCollector(ChunkedVector<?> source,
+                          Stage<T> stage,
+                          InternalConfiguration configuration) {
+        this.source = source;
+        this.stage = stage;
+        this.configuration = configuration;
+    }
+
+    /**
+     * record a mapper stage, if the mapper function returned {@code null}, the item will be
+     * removed, similar to {@link Collector#map(Function)}
+     *
+     * @param mapper the mapper {@link Function}
+     * @param <R>    the type of the mapped items
+     * @return a new {@link LazyCollector} with the mapper stage recorded
+     */
+    @Override
+    public <R> LazyCollector<R> map(@NonNull Function<T, R> mapper) {
+        return new LazyCollector<>(source, new MapStage<>(stage, mapper), configuration);
+    }
+
+    /**
+     * record a filter stage, the items that do not pass the {@link Predicate} will be removed
+     *
+     * @param predicate the {@link Predicate} that decides which items to keep
+     * @return a new {@link LazyCollector} with the filter stage recorded
+     */
+    public LazyCollector<T> filter(@NonNull Predicate<T> predicate) {
+        return new LazyCollector<>(source, new FilterStage<>(stage, predicate), configuration);
+    }
+
+    /**
+     * record a stage that invokes an action on every item that reaches it, this operation is
+     * intended for side-effects
+     *
+     * @param action the {@link Consumer} to be invoked
+     * @return a new {@link LazyCollector} with the stage recorded
+     */
+    public LazyCollector<T> peek(@NonNull Consumer<T> action) {
+        return new LazyCollector<>(source, new PeekStage<>(stage, action), configuration);
+    }
+
+    /**
+     * execute the recorded stages and iterate over the resulting items
+     *
+     * @param action a {@link Consumer} that will be invoked over all the resulting items
+     * @return {@code this} {@link LazyCollector}
+     */
+    public LazyCollector<T> forEach(@NonNull final Consumer<T> action) {
+        run(new Sink<T>() {
+            @Override
+            public void accept(T item) {
+                InternalInvoker.invoke(action, item);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * execute the recorded stages and reduce the resulting items
+     *
+     * @param reducer the reducer function
+     * @return a {@link Chain} holding the result of the reducer function, or holding
+     * {@code null} if no items resulted from the recorded stages
+     */
+    public Chain<T> reduce(@NonNull BiFunction<T, T, T> reducer) {
+        ReduceSink<T> result = new ReduceSink<>(reducer);
+        run(result);
+        return new Chain<>(result.reduced, configuration);
+    }
+
+    /**
+     * execute the recorded stages and collect the resulting items into a {@link List}
+     *
+     * @return a {@link Chain} holding a read-only {@link List} of the resulting items
+     */
+    public Chain<List<T>> toList() {
+        return new Chain<List<T>>(materialize(), configuration);
+    }
+
+    /**
+     * execute the recorded stages and collect the resulting items into a {@link Collector}
+     *
+     * @return a {@link Collector} holding the resulting items
+     */
+    public Collector<T> toCollector() {
+        return new Collector<>(materialize(), configuration);
+    }
+
+    @Override
+    public <R> R flatMap(@NonNull Function<List<T>, R> flatMapper) {
+        List<T> items = materialize();
+        return InternalInvoker.invoke(flatMapper, items);
+    }
+
+    private ChunkedVector<T> materialize() {
+        final ChunkedVector.Builder<T> builder = new ChunkedVector.Builder<>();
+        run(new Sink<T>() {
+            @Override
+            public void accept(T item) {
+                builder.add(item);
+            }
+        });
+        return builder.build();
+    }
+
+    private void run(Sink<T> terminal) {
+        Sink<Object> head = stage.wrap(terminal);
+        for (Object item : source) {
+            head.accept(item);
+        }
+    }
+
+    /**
+     * the receiver of the items that pass through a stage
+     */
+    private interface Sink<T> {
+        void accept(T item);
+    }
+
+    /**
+     * reduces the items the same way as {@link Collector#reduce(BiFunction)}, the first item
+     * is kept as it is, and every item after it is passed to the reducer, even if the reducer
+     * returned {@code null} for the items before it
+     */
+    private static class ReduceSink<T> implements Sink<T> {
+
+        private final BiFunction<T, T, T> reducer;
+        private boolean hasItem;
+        T reduced;
+
+        ReduceSink(BiFunction<T, T, T> reducer) {
+            this.reducer = reducer;
+        }
+
+        @Override
+        public void accept(T item) {
+            if (hasItem) {
+                reduced = InternalInvoker.invoke(reducer, reduced, item);
+            } else {
+                reduced = item;
+                hasItem = true;
+            }
+        }
+    }
+
+    /**
+     * a recorded operation, that wraps the {@link Sink} of the next stage with the {@link Sink}
+     * of this stage and all the stages before it
+     */
+    private abstract static class Stage<T> {
+        abstract Sink<Object> wrap(Sink<T> downstream);
+    }
+
+    private static class SourceStage<T> extends Stage<T> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Sink<Object> wrap(Sink<T> downstream) {
+            return (Sink<Object>) downstream;
+        }
+    }
+
+    private static class MapStage<T, R> extends Stage<R> {
+
+        private final Stage<T> upstream;
+        private final Function<T, R> mapper;
+
+        MapStage(Stage<T> upstream, Function<T, R> mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        Sink<Object> wrap(final Sink<R> downstream) {
+            return upstream.wrap(new Sink<T>() {
+                @Override
+                public void accept(T item) {
+                    R mappedItem = InternalInvoker.invoke(mapper, item);
+                    if (mappedItem != null) {
+                        downstream.accept(mappedItem);
+                    }
+                }
+            });
+        }
+    }
+
+    private static class FilterStage<T> extends Stage<T> {
+
+        private final Stage<T> upstream;
+        private final Predicate<T> predicate;
+
+        FilterStage(Stage<T> upstream, Predicate<T> predicate) {
+            this.upstream = upstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        Sink<Object> wrap(final Sink<T> downstream) {
+            return upstream.wrap(new Sink<T>() {
+                @Override
+                public void accept(T item) {
+                    if (InternalInvoker.invoke(predicate, item)) {
+                        downstream.accept(item);
+                    }
+                }
+            });
+        }
+    }
+
+    private static class PeekStage<T> extends Stage<T> {
+
+        private final Stage<T> upstream;
+        private final Consumer<T> action;
+
+        PeekStage(Stage<T> upstream, Consumer<T> action) {
+            this.upstream = upstream;
+            this.action = action;
+        }
+
+        @Override
+        Sink<Object> wrap(final Sink<T> downstream) {
+            return upstream.wrap(new Sink<T>() {
+                @Override
+                public void accept(T item) {
+                    InternalInvoker.invoke(action, item);
+                    downstream.accept(item);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.chaining;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * a graph of {@link Lazy} instances that depend on each other, so they can be initialized in
+ * parallel, every {@link Lazy} is initialized after it's dependencies are initialized, and the
+ * {@link Lazy} instances that do not depend on each other are initialized at the same time, so
+ * the time taken is the time of the longest path of dependencies, not the sum of all the
+ * initializers :
+ * <pre>
+ * Lazy&lt;Database&gt; database = Lazy.defer(Database::connect);
+ * Lazy&lt;Cache&gt; cache = Lazy.defer(Cache::new);
+ * Lazy&lt;Repository&gt; repository =
+ *         Lazy.defer(() -&gt; new Repository(database.call(), cache.call()));
+ *
+ * new LazyGraph()
+ *         .add(repository, database, cache)
+ *         .initialize();
+ * </pre>
+ * the initializer of a {@link Lazy} still invokes {@link Lazy#call()} on it's dependencies, so
+ * the {@link Lazy} works the same way if it is used without the graph, the graph only decides
+ * the order and the parallelism
+ * <p>
+ * the graph should be built on one thread, a cycle of dependencies is rejected when the
+ * dependency that closes it is added
+ */
+public final class LazyGraph {
+
+    private final Map<Lazy<?>, Set<Lazy<?>>> dependencies = new IdentityHashMap<>();
+
+    /**
+     * add a {@link Lazy} to the graph with the {@link Lazy} instances that it depends on, the
+     * dependencies are added to the graph if they were not added before
+     *
+     * @param lazy         the {@link Lazy} to add
+     * @param dependencies the {@link Lazy} instances that must be initialized first
+     * @return {@code this} instance for chaining
+     * @throws IllegalArgumentException if a dependency causes a cycle
+     */
+    public LazyGraph add(Lazy<?> lazy, Lazy<?>... dependencies) {
+        Set<Lazy<?>> lazyDependencies = node(lazy);
+        for (Lazy<?> dependency : dependencies) {
+            if (dependency == lazy || dependsOn(dependency, lazy)) {
+                throw new IllegalArgumentException("cycle of dependencies between "
+                        + lazy + " and " + dependency);
+            }
+            node(dependency);
+            lazyDependencies.add(dependency);
+        }
+        return this;
+    }
+
+    private Set<Lazy<?>> node(Lazy<?> lazy) {
+        Set<Lazy<?>> lazyDependencies = dependencies.get(lazy);
+        if (lazyDependencies == null) {
+            lazyDependencies = new LinkedHashSet<>();
+            dependencies.put(lazy, lazyDependencies);
+        }
+        return lazyDependencies;
+    }
+
+    /**
+     * check weather the passed {@link Lazy} depends on the target, directly or through other
+     * dependencies
+     */
+    private boolean dependsOn(Lazy<?> lazy, Lazy<?> target) {
+        Set<Lazy<?>> visited = Collections.newSetFromMap(new IdentityHashMap<Lazy<?>, Boolean>());
+        Deque<Lazy<?>> remaining = new ArrayDeque<>();
+        remaining.push(lazy);
+        while (!remaining.isEmpty()) {
+            Set<Lazy<?>> next = dependencies.get(remaining.pop());
+            if (next == null) {
+                continue;
+            }
+            for (Lazy<?> dependency : next) {
+                if (dependency == target) {
+                    return true;
+                }
+                if (visited.add(dependency)) {
+                    remaining.push(dependency);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * initialize all the {@link Lazy} instances in the graph in parallel, on the default
+     * {@link ForkJoinPool} of the library
+     *
+     * @throws RuntimeException if an initializer crashed, the {@link Lazy} instances that
+     *                          depend on it are not initialized
+     */
+    public void initialize() {
+        initialize(ParallelOperations.defaultPool());
+    }
+
+    /**
+     * initialize all the {@link Lazy} instances in the graph in parallel, on the passed
+     * {@link ForkJoinPool}, the current thread waits until all of them are initialized
+     *
+     * @param pool the {@link ForkJoinPool} that will invoke the initializers
+     * @throws RuntimeException if an initializer crashed, the {@link Lazy} instances that
+     *                          depend on it are not initialized
+     */
+    public void initialize(ForkJoinPool pool) {
+        new Initialization(dependencies, pool).run();
+    }
+
+    /**
+     * initialize the passed {@link Lazy} and all of it's dependencies in parallel, on the
+     * default {@link ForkJoinPool} of the library, the {@link Lazy} instances that it does not
+     * depend on are not initialized
+     *
+     * @param lazy the {@link Lazy} to initialize, should be added to this graph
+     * @param <T>  the type of the item
+     * @return the item of the passed {@link Lazy}
+     * @throws RuntimeException if an initializer crashed
+     */
+    public <T> T call(Lazy<T> lazy) {
+        return call(lazy, ParallelOperations.defaultPool());
+    }
+
+    /**
+     * initialize the passed {@link Lazy} and all of it's dependencies in parallel, on the
+     * passed {@link ForkJoinPool}, similar to {@link #call(Lazy)}
+     *
+     * @param lazy the {@link Lazy} to initialize, should be added to this graph
+     * @param pool the {@link ForkJoinPool} that will invoke the initializers
+     * @param <T>  the type of the item
+     * @return the item of the passed {@link Lazy}
+     * @throws RuntimeException if an initializer crashed
+     */
+    public <T> T call(Lazy<T> lazy, ForkJoinPool pool) {
+        new Initialization(subGraph(lazy), pool).run();
+        return lazy.call();
+    }
+
+    private Map<Lazy<?>, Set<Lazy<?>>> subGraph(Lazy<?> root) {
+        Map<Lazy<?>, Set<Lazy<?>>> subGraph = new IdentityHashMap<>();
+        Deque<Lazy<?>> remaining = new ArrayDeque<>();
+        remaining.push(root);
+        while (!remaining.isEmpty()) {
+            Lazy<?> lazy = remaining.pop();
+            if (subGraph.containsKey(lazy)) {
+                continue;
+            }
+            Set<Lazy<?>> lazyDependencies = dependencies.get(lazy);
+            if (lazyDependencies == null) {
+                lazyDependencies = Collections.emptySet();
+            }
+            subGraph.put(lazy, lazyDependencies);
+            remaining.addAll(lazyDependencies);
+        }
+        return subGraph;
+    }
+
+    /**
+     * one initialization of the graph, every {@link Lazy} holds the number of the dependencies
+     * that are not initialized yet, when it reaches zero the {@link Lazy} is submitted to the
+     * pool, so no thread is blocked waiting for a dependency
+     */
+    private static class Initialization {
+
+        private final Map<Lazy<?>, AtomicInteger> pendingDependencies = new IdentityHashMap<>();
+        private final Map<Lazy<?>, List<Lazy<?>>> dependents = new IdentityHashMap<>();
+        private final ForkJoinPool pool;
+        private int running;
+        private Throwable error;
+
+        Initialization(Map<Lazy<?>, Set<Lazy<?>>> graph, ForkJoinPool pool) {
+            this.pool = pool;
+            for (Map.Entry<Lazy<?>, Set<Lazy<?>>> node : graph.entrySet()) {
+                pendingDependencies.put(node.getKey(), new AtomicInteger(node.getValue().size()));
+                for (Lazy<?> dependency : node.getValue()) {
+                    List<Lazy<?>> dependencyDependents = dependents.get(dependency);
+                    if (dependencyDependents == null) {
+                        dependencyDependents = new ArrayList<>();
+                        dependents.put(dependency, dependencyDependents);
+                    }
+                    dependencyDependents.add(node.getKey());
+                }
+            }
+        }
+
+        void run() {
+            for (Map.Entry<Lazy<?>, AtomicInteger> node : pendingDependencies.entrySet()) {
+                if (node.getValue().get() == 0) {
+                    submit(node.getKey());
+                }
+            }
+            awaitCompletion();
+        }
+
+        private void submit(final Lazy<?> lazy) {
+            synchronized (this) {
+                if (error != null) {
+                    return;
+                }
+                running++;
+            }
+            try {
+                pool.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        initialize(lazy);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                complete(e);
+            }
+        }
+
+        private void initialize(Lazy<?> lazy) {
+            try {
+                lazy.call();
+            } catch (Throwable e) {
+                complete(e);
+                return;
+            }
+            List<Lazy<?>> lazyDependents = dependents.get(lazy);
+            if (lazyDependents != null) {
+                for (Lazy<?> dependent : lazyDependents) {
+                    if (pendingDependencies.get(dependent).decrementAndGet() == 0) {
+                        submit(dependent);
+                    }
+                }
+            }
+            complete(null);
+        }
+
+        /**
+         * mark a submitted {@link Lazy} as finished, the dependents are submitted before this
+         * method is invoked, so {@link #running} reaches zero only when nothing is left
+         */
+        private synchronized void complete(Throwable failure) {
+            if (failure != null && error == null) {
+                error = failure;
+            }
+            running--;
+            notifyAll();
+        }
+
+        private synchronized void awaitCompletion() {
+            try {
+                while (running > 0) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw InternalInvoker.toRuntimeException(e);
+            }
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            } else if (error instanceof Error) {
+                throw (Error) error;
+            } else if (error != null) {
+                throw new RuntimeException(error);
+            }
+        }
+    }
+}
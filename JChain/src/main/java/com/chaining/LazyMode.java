@@ -0,0 +1,29 @@
+package com.chaining;
+
+/**
+ * the ways a {@link Lazy} initializes it's item when {@link Lazy#call()} is invoked from
+ * multiple threads, similar to {@code LazyThreadSafetyMode} in Kotlin
+ */
+public enum LazyMode {
+
+    /**
+     * the initializer is invoked once, the first thread publishes an in-flight marker through
+     * compare-and-set and initializes the item, and the other threads, including a running
+     * {@link Lazy#prefetch(java.util.concurrent.Executor)}, wait for it, the item is published
+     * through a volatile field so after initialization {@link Lazy#call()} is a volatile read
+     */
+    SYNCHRONIZED,
+
+    /**
+     * the initializer may be invoked by more than one thread at the same time, but only the
+     * first item that is published through compare-and-set is kept, and all the threads
+     * receive this item, use it when the initializer is cheap or has no side effects
+     */
+    PUBLICATION,
+
+    /**
+     * no locks and no compare-and-set, the initializer may be invoked many times and the last
+     * item wins, use it only when the {@link Lazy} is accessed from one thread
+     */
+    NONE
+}
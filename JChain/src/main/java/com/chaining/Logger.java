@@ -1,7 +1,5 @@
 package com.chaining;
 
-import com.functional.curry.Invoker;
-
 import io.reactivex.functions.BiConsumer;
 import io.reactivex.functions.Function;
 
@@ -33,7 +31,7 @@ public class Logger<S extends Internal<S, T>, T> {
      */
     public MessageLogger<S, T> message(Function<T, Object> messageComposer) {
         return new MessageLogger<>(this,
-                Invoker.invoke(messageComposer, source.access().getItem()));
+                InternalInvoker.invoke(messageComposer, source.access().getItem()));
     }
 
     /**
@@ -53,7 +51,7 @@ public class Logger<S extends Internal<S, T>, T> {
     }
 
     private <V> void guardAccept(BiConsumer<Object, V> biConsumer, V message) {
-        Invoker.invoke(biConsumer, tag, message);
+        InternalInvoker.invoke(biConsumer, tag, message);
     }
 
     /**
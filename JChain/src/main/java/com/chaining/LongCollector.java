@@ -0,0 +1,252 @@
+package com.chaining;
+
+import com.chaining.functions.LongBinaryOperator;
+import com.chaining.functions.LongConsumer;
+import com.chaining.functions.LongUnaryOperator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.annotations.NonNull;
+
+/**
+ * a {@link Collector} specialized for {@code long} values, the values are stored in a growable
+ * {@code long[]} so no boxing happens while collecting, mapping or reducing them
+ * <p>
+ * similar to {@link Collector}, {@link #and(long)} does not modify the current instance, the
+ * backing array is shared between the instances, and only the last instance on a chain of
+ * {@link #and(long)} calls appends in place, any other instance copies the array before
+ * appending
+ */
+public class LongCollector extends PrimitiveCollector<long[], LongCollector> {
+
+    LongCollector(InternalConfiguration configuration) {
+        this(new long[0], 0, configuration);
+    }
+
+    private LongCollector(long[] items, int size, InternalConfiguration configuration) {
+        this(items, size, new AtomicInteger(size), configuration);
+    }
+
+    private LongCollector(long[] items,
+                          int size,
+                          AtomicInteger claimedSize,
+                          InternalConfiguration configuration) {
+        super(items, size, claimedSize, configuration);
+    }
+
+    /**
+     * create a {@link LongCollector} from an item that can be {@code null}, a {@code long[]},
+     * an {@link Iterable} of {@link Number}s (where {@code null} elements are skipped), or a
+     * single {@link Number}
+     *
+     * @param source        the source item
+     * @param configuration the {@link InternalConfiguration} of the new {@link LongCollector}
+     * @return a new {@link LongCollector}
+     * @throws UnsupportedOperationException if the source item can not be collected as {@code long}
+     */
+    static LongCollector from(Object source, InternalConfiguration configuration) {
+        if (source == null) {
+            return new LongCollector(configuration);
+        } else if (source instanceof long[]) {
+            long[] array = (long[]) source;
+            return new LongCollector(array.clone(), array.length, configuration);
+        } else if (source instanceof Iterable) {
+            return new LongCollector(configuration).andAll((Iterable<?>) source, "collectLongs()");
+        } else if (source instanceof Number) {
+            return new LongCollector(new long[]{((Number) source).longValue()}, 1, configuration);
+        } else {
+            throw new UnsupportedOperationException("collectLongs() item type mismatch");
+        }
+    }
+
+    @Override
+    LongCollector create(long[] items, int size, AtomicInteger claimedSize) {
+        return new LongCollector(items, size, claimedSize, configuration);
+    }
+
+    @Override
+    int capacity(long[] items) {
+        return items.length;
+    }
+
+    @Override
+    long[] copyOf(long[] items, int length) {
+        return Arrays.copyOf(items, length);
+    }
+
+    @Override
+    void set(long[] items, int index, Number value) {
+        items[index] = value.longValue();
+    }
+
+    /**
+     * append a value to a new {@link LongCollector}, this {@link LongCollector} is not modified
+     *
+     * @param item the value to append
+     * @return a new {@link LongCollector} holding the current values plus the new value
+     */
+    public LongCollector and(long item) {
+        LongCollector appended = withNextSlot();
+        appended.items[size] = item;
+        return appended;
+    }
+
+    /**
+     * invoke a mapper on every value in this {@link LongCollector}
+     *
+     * @param mapper the mapper {@link LongUnaryOperator}
+     * @return a new {@link LongCollector} with the mapped values
+     */
+    public LongCollector map(@NonNull LongUnaryOperator mapper) {
+        long[] mappedItems = new long[size];
+        try {
+            for (int i = 0; i < size; i++) {
+                mappedItems[i] = mapper.apply(items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return new LongCollector(mappedItems, size, configuration);
+    }
+
+    /**
+     * iterate over the values and invoke a certain action
+     *
+     * @param action a {@link LongConsumer} that will be invoked over all values
+     * @return {@code this} {@link LongCollector} after iteration
+     */
+    public LongCollector forEach(@NonNull LongConsumer action) {
+        try {
+            for (int i = 0; i < size; i++) {
+                action.accept(items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return this;
+    }
+
+    /**
+     * reduce all the values in this {@link LongCollector} starting from the passed identity value
+     *
+     * @param identity the initial value of the reduction, which is returned if this
+     *                 {@link LongCollector} is empty
+     * @param reducer  the reducer {@link LongBinaryOperator}
+     * @return the result of the reduction
+     */
+    public long reduce(long identity, @NonNull LongBinaryOperator reducer) {
+        long result = identity;
+        try {
+            for (int i = 0; i < size; i++) {
+                result = reducer.apply(result, items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return result;
+    }
+
+    /**
+     * reduce all the values in this {@link LongCollector}
+     *
+     * @param reducer the reducer {@link LongBinaryOperator}
+     * @return a {@link Chain} holding the result of the reduction, or holding {@code null} if
+     * this {@link LongCollector} is empty
+     */
+    public Chain<Long> reduce(@NonNull LongBinaryOperator reducer) {
+        if (size == 0) {
+            return new Chain<>(null, configuration);
+        }
+        long result = items[0];
+        try {
+            for (int i = 1; i < size; i++) {
+                result = reducer.apply(result, items[i]);
+            }
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+        return new Chain<>(Long.valueOf(result), configuration);
+    }
+
+    /**
+     * sum all the values in this {@link LongCollector}
+     *
+     * @return the sum of the values, or {@code 0} if this {@link LongCollector} is empty
+     */
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += items[i];
+        }
+        return sum;
+    }
+
+    /**
+     * get the minimum value in this {@link LongCollector}
+     *
+     * @return the minimum value
+     * @throws NoSuchElementException if this {@link LongCollector} is empty
+     */
+    public long min() throws NoSuchElementException {
+        long min = first();
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, items[i]);
+        }
+        return min;
+    }
+
+    /**
+     * get the maximum value in this {@link LongCollector}
+     *
+     * @return the maximum value
+     * @throws NoSuchElementException if this {@link LongCollector} is empty
+     */
+    public long max() throws NoSuchElementException {
+        long max = first();
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, items[i]);
+        }
+        return max;
+    }
+
+    private long first() {
+        if (size == 0) {
+            throw new NoSuchElementException("no values stored in the current " +
+                    LongCollector.class.getSimpleName());
+        }
+        return items[0];
+    }
+
+    /**
+     * get the number of values in this {@link LongCollector}
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * copy the values of this {@link LongCollector} into a new array
+     *
+     * @return a new {@code long[]} holding the values
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(items, size);
+    }
+
+    /**
+     * convert this {@link LongCollector} into a {@link Collector} of boxed values
+     *
+     * @return a {@link Collector} holding the boxed values
+     */
+    public Collector<Long> boxed() {
+        ChunkedVector.Builder<Long> boxedItems = new ChunkedVector.Builder<>();
+        for (int i = 0; i < size; i++) {
+            boxedItems.add(items[i]);
+        }
+        return new Collector<>(boxedItems.build(), configuration);
+    }
+}
@@ -0,0 +1,209 @@
+package com.chaining;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.reactivex.annotations.NonNull;
+import io.reactivex.functions.BiPredicate;
+
+/**
+ * a pre-built index of a {@link Collection}, that answers weather an item is in this
+ * {@link Collection} or not, it is built once through {@link Chain#membership(Collection)} or
+ * similar methods, then it can be passed to {@link Chain#whenIn(Membership)} or
+ * {@link Optional#whenIn(Membership)} as many times as needed without rebuilding the index
+ * <p>
+ * the index type is picked based on how it was built :
+ * <ul>
+ * <li>equality comparison over enum constants : an {@link EnumSet}</li>
+ * <li>equality comparison over other items : a {@link HashSet}, or the passed
+ * {@link Collection} itself if it is already a {@link Set}</li>
+ * <li>{@link Comparator} comparison : a sorted array that is searched with binary search</li>
+ * <li>{@link BiPredicate} comparison : a linear scan over the items</li>
+ * </ul>
+ * the sorted array is never picked for equality comparison, even if the items are
+ * {@link Comparable}, as the hash lookup is faster, and {@link Comparable#compareTo(Object)}
+ * can disagree with {@link Object#equals(Object)}, so it is built only through
+ * {@link Chain#sortedMembership(Collection)} or
+ * {@link Chain#sortedMembership(Collection, Comparator)}
+ * <p>
+ * a {@link Membership} is immutable (unless it is using a {@link Set} that was passed to it), so
+ * it is safe to share it between threads
+ *
+ * @param <T> the type of the items
+ */
+public abstract class Membership<T> {
+
+    Membership() {
+    }
+
+    /**
+     * create a {@link Membership} that compares the items through {@link Object#equals(Object)}
+     *
+     * @param collection the {@link Collection} that holds the items, can be {@code null}
+     * @param <T>        the type of the items
+     * @return a {@link Membership} backed by a hash index
+     */
+    static <T> Membership<T> equality(Collection<T> collection) {
+        if (collection instanceof Set) {
+            return new SetMembership<>((Set<T>) collection);
+        } else if (collection == null || collection.isEmpty()) {
+            return new SetMembership<>(Collections.<T>emptySet());
+        } else if (isEnumCollection(collection)) {
+            return new SetMembership<>(enumSet(collection));
+        } else {
+            return new SetMembership<>(new HashSet<>(collection));
+        }
+    }
+
+    private static boolean isEnumCollection(Collection<?> collection) {
+        Class<?> enumType = null;
+        for (Object item : collection) {
+            if (!(item instanceof Enum)) {
+                return false;
+            }
+            Class<?> itemType = ((Enum<?>) item).getDeclaringClass();
+            if (enumType == null) {
+                enumType = itemType;
+            } else if (enumType != itemType) {
+                return false;
+            }
+        }
+        return enumType != null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Set<T> enumSet(Collection<T> collection) {
+        return (Set<T>) EnumSet.copyOf((Collection) collection);
+    }
+
+    /**
+     * create a {@link Membership} that compares the items through the passed
+     * {@link BiPredicate}, if the {@link BiPredicate} is the default {@link IsEqualComparator},
+     * this method will return {@link #equality(Collection)}
+     *
+     * @param collection the {@link Collection} that holds the items, can be {@code null}
+     * @param comparator the {@link BiPredicate} that compares the checked item (as it's first
+     *                   parameter) with an item in the {@link Collection} (as it's second
+     *                   parameter)
+     * @param <T>        the type of the items
+     * @return a {@link Membership} that scans the items, or backed by a hash index
+     */
+    static <T> Membership<T> predicate(Collection<T> collection, BiPredicate<T, T> comparator) {
+        if (comparator instanceof IsEqualComparator) {
+            return equality(collection);
+        } else {
+            return new ScanMembership<>(nonNullItems(collection), comparator);
+        }
+    }
+
+    /**
+     * create a {@link Membership} that sorts the items once through the passed
+     * {@link Comparator}, then finds them through binary search, an item is considered in
+     * the {@link Collection} if the {@link Comparator} returned {@code 0} for it and one of the
+     * items
+     *
+     * @param collection the {@link Collection} that holds the items, can be {@code null}
+     * @param comparator the {@link Comparator} that sorts the items
+     * @param <T>        the type of the items
+     * @return a {@link Membership} backed by a sorted array
+     */
+    static <T> Membership<T> sorted(Collection<T> collection, Comparator<? super T> comparator) {
+        List<T> items = nonNullItems(collection);
+        Object[] sortedItems = items.toArray();
+        sort(sortedItems, comparator);
+        return new SortedMembership<>(sortedItems, comparator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void sort(Object[] items, Comparator<? super T> comparator) {
+        Arrays.sort((T[]) items, comparator);
+    }
+
+    private static <T> List<T> nonNullItems(Collection<T> collection) {
+        List<T> items = new ArrayList<>(collection == null ? 0 : collection.size());
+        if (collection != null) {
+            for (T item : collection) {
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * check weather the passed item is one of the indexed items
+     *
+     * @param item the item to check
+     * @return {@code true} if the item is one of the indexed items, or {@code false} if it is
+     * not, or if it is {@code null}
+     */
+    public boolean contains(T item) {
+        return item != null && containsNonNull(item);
+    }
+
+    abstract boolean containsNonNull(@NonNull T item);
+
+    private static class SetMembership<T> extends Membership<T> {
+
+        private final Set<T> items;
+
+        SetMembership(Set<T> items) {
+            this.items = items;
+        }
+
+        @Override
+        boolean containsNonNull(T item) {
+            return items.contains(item);
+        }
+    }
+
+    private static class SortedMembership<T> extends Membership<T> {
+
+        private final Object[] sortedItems;
+        private final Comparator<? super T> comparator;
+
+        SortedMembership(Object[] sortedItems, Comparator<? super T> comparator) {
+            this.sortedItems = sortedItems;
+            this.comparator = comparator;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean containsNonNull(T item) {
+            return Arrays.binarySearch((T[]) sortedItems, item, comparator) >= 0;
+        }
+    }
+
+    private static class ScanMembership<T> extends Membership<T> {
+
+        private final List<T> items;
+        private final BiPredicate<T, T> comparator;
+
+        ScanMembership(List<T> items, BiPredicate<T, T> comparator) {
+            this.items = items;
+            this.comparator = comparator;
+        }
+
+        @Override
+        boolean containsNonNull(T item) {
+            try {
+                for (int i = 0, size = items.size(); i < size; i++) {
+                    if (comparator.test(item, items.get(i))) {
+                        return true;
+                    }
+                }
+                return false;
+            } catch (Exception e) {
+                throw InternalInvoker.toRuntimeException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.chaining;
+
+import java.util.Comparator;
+
+/**
+ * a {@link Comparator} that compares {@link Comparable} items through their natural ordering
+ */
+class NaturalOrderComparator<T extends Comparable<? super T>> implements Comparator<T> {
+    @Override
+    public int compare(T leftItem, T rightItem) {
+        return leftItem.compareTo(rightItem);
+    }
+}
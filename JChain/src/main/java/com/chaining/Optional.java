@@ -3,9 +3,9 @@ package com.chaining;
 
 import com.chaining.interfaces.DefaultIfEmpty;
 import com.chaining.interfaces.Functor;
-import com.functional.curry.Invoker;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.NoSuchElementException;
 import java.util.concurrent.Callable;
 
@@ -26,7 +26,7 @@ import io.reactivex.functions.Predicate;
  * <p>
  * Created by Ahmed Adel Ismail on 11/6/2017.
  */
-public class Optional<T> implements
+public class Optional<T> extends Proxy<Optional<T>, T> implements
         Conditional<Optional<T>, T>,
         Internal<Optional<T>, T>,
         Function<Consumer<T>, Optional<T>>,
@@ -55,9 +55,9 @@ public class Optional<T> implements
      */
     public Optional<T> apply(Consumer<T> action) {
         if (chain.item != null) {
-            Invoker.invoke(action, chain.item);
+            InternalInvoker.invoke(action, chain.item);
         }
-        return new Optional<>(chain.item, chain.configuration);
+        return this;
     }
 
     /**
@@ -68,9 +68,9 @@ public class Optional<T> implements
      */
     public Optional<T> invoke(Action action) {
         if (chain.item != null) {
-            Invoker.invoke(action);
+            InternalInvoker.invoke(action);
         }
-        return new Optional<>(chain.item, chain.configuration);
+        return this;
     }
 
     /**
@@ -83,7 +83,7 @@ public class Optional<T> implements
      */
     public <R> Optional<R> map(Function<T, R> mapper) {
         if (chain.item != null) {
-            return new Optional<>(Invoker.invoke(mapper, chain.item), chain.configuration);
+            return new Optional<>(InternalInvoker.invoke(mapper, chain.item), chain.configuration);
         } else {
             return new Optional<>(null, chain.configuration);
         }
@@ -107,7 +107,7 @@ public class Optional<T> implements
     }
 
     private <R> Maybe<R> maybeFromNonNullItem(Function<T, R> flatMapper) {
-        R newItem = Invoker.invoke(flatMapper, chain.item);
+        R newItem = InternalInvoker.invoke(flatMapper, chain.item);
         if (newItem != null) {
             return Maybe.just(newItem);
         } else {
@@ -140,7 +140,7 @@ public class Optional<T> implements
      */
     public <R> Optional<R> to(@NonNull Callable<R> itemCallable) {
         if (chain.item != null) {
-            return new Optional<>(Invoker.invoke(itemCallable), chain.configuration);
+            return new Optional<>(InternalInvoker.invoke(itemCallable), chain.configuration);
         } else {
             return new Optional<>(null, chain.configuration);
         }
@@ -169,12 +169,13 @@ public class Optional<T> implements
      * debugging mode in {@link ChainConfiguration} in the Application's {@code onCreate()}
      *
      * @param action a {@link Consumer} to be invoked in debugging only
+     * @return {@code this} instance for chaining
      */
     public Optional<T> debug(Consumer<T> action) {
         if (chain.configuration.isDebugging() && chain.item != null) {
-            Invoker.invoke(action, chain.item);
+            InternalInvoker.invoke(action, chain.item);
         }
-        return new Optional<>(chain.item, chain.configuration);
+        return this;
     }
 
     /**
@@ -249,7 +250,7 @@ public class Optional<T> implements
      */
     public Condition<Optional<T>, T> whenIn(Collection<T> collection, BiPredicate<T, T> comparator) {
         return Condition.createNormal(this,
-                new InOperator<>(collection, comparator, chain.configuration));
+                new InOperator<>(collection, comparator));
     }
 
     /**
@@ -281,13 +282,85 @@ public class Optional<T> implements
 
         if (chain.item == null) {
             return Condition.createNormal(this,
-                    new InOperator<>(collection, comparator, chain.configuration));
+                    new InOperator<>(collection, comparator));
         } else {
             return Condition.createNegated(this,
-                    new InOperator<>(collection, comparator, chain.configuration));
+                    new InOperator<>(collection, comparator));
+        }
+    }
+
+    /**
+     * check if the current Object in the {@link Optional} is available in the items indexed by
+     * the passed {@link Membership}
+     *
+     * @param membership the {@link Membership} created through
+     *                   {@link Chain#membership(Collection)} or similar methods
+     * @return a {@link Condition} that will execute it's {@link Condition#then(Consumer)} or
+     * similar methods if the item is available in the passed {@link Membership}
+     */
+    public Condition<Optional<T>, T> whenIn(Membership<T> membership) {
+        return Condition.createNormal(this, new InOperator<>(membership));
+    }
+
+    /**
+     * check if the current Object in the {@link Optional} is NOT available in the items
+     * indexed by the passed {@link Membership}
+     *
+     * @param membership the {@link Membership} created through
+     *                   {@link Chain#membership(Collection)} or similar methods
+     * @return a {@link Condition} that will execute it's {@link Condition#then(Consumer)} or
+     * similar methods if the item is NOT available in the passed {@link Membership}
+     */
+    public Condition<Optional<T>, T> whenNotIn(Membership<T> membership) {
+        if (chain.item == null) {
+            return Condition.createNormal(this, new InOperator<>(membership));
+        } else {
+            return Condition.createNegated(this, new InOperator<>(membership));
         }
     }
 
+    /**
+     * check if the current Object in the {@link Optional} is available in the passed
+     * {@link Collection}, the items are sorted through the passed {@link Comparator} then the
+     * current Object is looked up through binary search, it is considered available if the
+     * {@link Comparator} returned {@code 0} for it and one of the items
+     * <p>
+     * sorting costs more than one linear scan, so when checking many items against the same
+     * {@link Collection}, build the sorted index once through
+     * {@link Chain#sortedMembership(Collection, Comparator)}
+     * and pass it to {@link #whenIn(Membership)} instead
+     *
+     * @param collection the {@link Collection} that holds the items
+     * @param comparator the {@link Comparator} that orders the items
+     * @return a {@link Condition} that will execute it's {@link Condition#then(Consumer)} or
+     * similar methods if the item is available in the passed {@link Collection}
+     */
+    public Condition<Optional<T>, T> whenInSorted(Collection<T> collection,
+                                                  Comparator<? super T> comparator) {
+        return whenIn(Membership.sorted(collection, comparator));
+    }
+
+    /**
+     * check if the current Object in the {@link Optional} is NOT available in the passed
+     * {@link Collection}, the items are sorted through the passed {@link Comparator} then the
+     * current Object is looked up through binary search, it is considered available if the
+     * {@link Comparator} returned {@code 0} for it and one of the items
+     * <p>
+     * sorting costs more than one linear scan, so when checking many items against the same
+     * {@link Collection}, build the sorted index once through
+     * {@link Chain#sortedMembership(Collection, Comparator)}
+     * and pass it to {@link #whenNotIn(Membership)} instead
+     *
+     * @param collection the {@link Collection} that holds the items
+     * @param comparator the {@link Comparator} that orders the items
+     * @return a {@link Condition} that will execute it's {@link Condition#then(Consumer)} or
+     * similar methods if the item is NOT available in the passed {@link Collection}
+     */
+    public Condition<Optional<T>, T> whenNotInSorted(Collection<T> collection,
+                                                     Comparator<? super T> comparator) {
+        return whenNotIn(Membership.sorted(collection, comparator));
+    }
+
     /**
      * retrieve the item stored in this {@link Optional} if not empty, if this {@link Optional}
      * is empty, this method will throw {@link NoSuchElementException}
@@ -320,26 +393,26 @@ public class Optional<T> implements
 
     @Override
     public Proxy<Optional<T>, T> access() {
-        return new Proxy<Optional<T>, T>() {
-            @Override
-            Optional<T> copy(T item, InternalConfiguration configuration) {
-                return new Optional<>(item, configuration);
-            }
+        return this;
+    }
 
-            @Override
-            InternalConfiguration getConfiguration() {
-                return chain.configuration;
-            }
+    @Override
+    Optional<T> copy(T item, InternalConfiguration configuration) {
+        return new Optional<>(item, configuration);
+    }
 
-            @Override
-            T getItem() {
-                return chain.item;
-            }
+    @Override
+    InternalConfiguration getConfiguration() {
+        return chain.configuration;
+    }
 
-            @Override
-            Optional<T> owner() {
-                return Optional.this;
-            }
-        };
+    @Override
+    T getItem() {
+        return chain.item;
+    }
+
+    @Override
+    Optional<T> owner() {
+        return this;
     }
 }
@@ -0,0 +1,230 @@
+package com.chaining;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * the fork/join tasks used by the parallel operations of {@link Collector}, every task splits
+ * it's range of indexes in halves until the range is not bigger than the sequential threshold,
+ * then it runs the operation sequentially on this range
+ */
+class ParallelOperations {
+
+    /**
+     * the number of leaf tasks created per worker thread when no sequential threshold is
+     * passed, more leaf tasks than threads lets the pool balance uneven work between threads
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    private ParallelOperations() {
+    }
+
+    /**
+     * get the {@link ForkJoinPool} that is used when no pool is passed to the parallel
+     * operations, it is created on first access with a parallelism equal to the available
+     * processors
+     *
+     * @return the default {@link ForkJoinPool}
+     */
+    static ForkJoinPool defaultPool() {
+        return DefaultPoolHolder.POOL;
+    }
+
+    /**
+     * calculate a sequential threshold that splits the items into
+     * {@link #TASKS_PER_THREAD} tasks for every thread in the passed pool
+     *
+     * @param size the number of items
+     * @param pool the pool that will execute the tasks
+     * @return the sequential threshold
+     */
+    static int defaultThreshold(int size, ForkJoinPool pool) {
+        return Math.max(1, size / (pool.getParallelism() * TASKS_PER_THREAD));
+    }
+
+    /**
+     * map all the items in the passed {@link List} in parallel
+     *
+     * @param items     the source items
+     * @param mapper    the mapper {@link Function}
+     * @param pool      the {@link ForkJoinPool} that will execute the tasks
+     * @param threshold the maximum number of items that are mapped sequentially in one task
+     * @return a {@link ChunkedVector} holding the non-{@code null} mapped items, in the same
+     * order of the source items
+     */
+    static <T, R> ChunkedVector<R> map(List<T> items,
+                                       Function<T, R> mapper,
+                                       ForkJoinPool pool,
+                                       int threshold) {
+        Object[] results = new Object[items.size()];
+        pool.invoke(new MapTask<>(items, mapper, results, 0, items.size(), threshold));
+        return nonNullItems(results);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> ChunkedVector<R> nonNullItems(Object[] results) {
+        ChunkedVector.Builder<R> builder = new ChunkedVector.Builder<>();
+        for (Object result : results) {
+            builder.add((R) result);
+        }
+        return builder.build();
+    }
+
+    /**
+     * invoke an action on all the items in the passed {@link List} in parallel, there is no
+     * guarantee on the order of invocation
+     *
+     * @param items     the source items
+     * @param action    the action to invoke
+     * @param pool      the {@link ForkJoinPool} that will execute the tasks
+     * @param threshold the maximum number of items that are handled sequentially in one task
+     */
+    static <T> void forEach(List<T> items, Consumer<T> action, ForkJoinPool pool, int threshold) {
+        pool.invoke(new ForEachTask<>(items, action, 0, items.size(), threshold));
+    }
+
+    /**
+     * reduce all the items in the passed {@link List} in parallel, every task reduces it's
+     * range starting from the identity value, then the results of the tasks are combined in
+     * the encounter order
+     *
+     * @param items     the source items
+     * @param identity  the initial value of every reduction
+     * @param reducer   the {@link BiFunction} that accumulates an item into a result
+     * @param combiner  the {@link BiFunction} that combines two results
+     * @param pool      the {@link ForkJoinPool} that will execute the tasks
+     * @param threshold the maximum number of items that are reduced sequentially in one task
+     * @return the result of the reduction
+     */
+    static <T, R> R reduce(List<T> items,
+                           R identity,
+                           BiFunction<R, T, R> reducer,
+                           BiFunction<R, R, R> combiner,
+                           ForkJoinPool pool,
+                           int threshold) {
+        return pool.invoke(new ReduceTask<>(items, identity, reducer, combiner,
+                0, items.size(), threshold));
+    }
+
+    private static class DefaultPoolHolder {
+        private static final ForkJoinPool POOL = new ForkJoinPool();
+    }
+
+    private static class MapTask<T, R> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> items;
+        private final Function<T, R> mapper;
+        private final Object[] results;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        MapTask(List<T> items, Function<T, R> mapper, Object[] results,
+                int from, int to, int threshold) {
+            this.items = items;
+            this.mapper = mapper;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    results[i] = InternalInvoker.invoke(mapper, items.get(i));
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new MapTask<>(items, mapper, results, from, middle, threshold),
+                        new MapTask<>(items, mapper, results, middle, to, threshold));
+            }
+        }
+    }
+
+    private static class ForEachTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> items;
+        private final Consumer<T> action;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ForEachTask(List<T> items, Consumer<T> action, int from, int to, int threshold) {
+            this.items = items;
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    InternalInvoker.invoke(action, items.get(i));
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ForEachTask<>(items, action, from, middle, threshold),
+                        new ForEachTask<>(items, action, middle, to, threshold));
+            }
+        }
+    }
+
+    private static class ReduceTask<T, R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> items;
+        private final R identity;
+        private final BiFunction<R, T, R> reducer;
+        private final BiFunction<R, R, R> combiner;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ReduceTask(List<T> items, R identity,
+                   BiFunction<R, T, R> reducer, BiFunction<R, R, R> combiner,
+                   int from, int to, int threshold) {
+            this.items = items;
+            this.identity = identity;
+            this.reducer = reducer;
+            this.combiner = combiner;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= threshold) {
+                R result = identity;
+                for (int i = from; i < to; i++) {
+                    result = InternalInvoker.invoke(reducer, result, items.get(i));
+                }
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            ReduceTask<T, R> left = new ReduceTask<>(items, identity, reducer, combiner,
+                    from, middle, threshold);
+            ReduceTask<T, R> right = new ReduceTask<>(items, identity, reducer, combiner,
+                    middle, to, threshold);
+            left.fork();
+            R rightResult = right.compute();
+            return InternalInvoker.invoke(combiner, left.join(), rightResult);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.chaining;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * the storage that is shared by {@link IntCollector}, {@link LongCollector} and
+ * {@link DoubleCollector}, the values are kept in a primitive array that grows by half of it's
+ * size, and that is shared between the instances of a chain of {@code and()} calls, the
+ * instance that holds the last value claims the next slot of the array and appends in place,
+ * any other instance copies the array before appending
+ * <p>
+ * the sub-classes only access the array of their primitive type, so the values are never boxed
+ *
+ * @param <A> the type of the primitive array, like {@code int[]}
+ * @param <C> the type of the collector
+ */
+abstract class PrimitiveCollector<A, C extends PrimitiveCollector<A, C>> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    final A items;
+    final int size;
+    final InternalConfiguration configuration;
+    private final AtomicInteger claimedSize;
+
+    PrimitiveCollector(A items,
+                       int size,
+                       AtomicInteger claimedSize,
+                       InternalConfiguration configuration) {
+        this.items = items;
+        this.size = size;
+        this.claimedSize = claimedSize;
+        this.configuration = configuration;
+    }
+
+    /**
+     * create a collector of the same type, with the configuration of this collector
+     */
+    abstract C create(A items, int size, AtomicInteger claimedSize);
+
+    abstract int capacity(A items);
+
+    abstract A copyOf(A items, int length);
+
+    abstract void set(A items, int index, Number value);
+
+    /**
+     * create a collector that holds the values of this collector, plus one slot at the index
+     * {@link #size}, the caller writes the appended value in this slot, either the shared array
+     * is used if this instance holds the last value and the array is not full, or a grown copy
+     * of the array is used
+     *
+     * @return a new collector with one more value
+     */
+    final C withNextSlot() {
+        if (size < capacity(items) && claimedSize.compareAndSet(size, size + 1)) {
+            return create(items, size + 1, claimedSize);
+        } else {
+            int newSize = size + 1;
+            return create(copyOf(items, grownCapacity(size)), newSize, new AtomicInteger(newSize));
+        }
+    }
+
+    /**
+     * create a collector that holds the values of this collector, plus the non-{@code null}
+     * elements of the passed {@link Iterable}
+     *
+     * @param source    the {@link Iterable} of {@link Number}s
+     * @param operation the name of the operation, used in the error message
+     * @return a new collector holding all the values
+     * @throws UnsupportedOperationException if an element is not a {@link Number}
+     */
+    final C andAll(Iterable<?> source, String operation) {
+        int expected = source instanceof Collection
+                ? ((Collection<?>) source).size()
+                : MIN_CAPACITY;
+        A array = copyOf(items, size + expected);
+        int count = size;
+        for (Object element : source) {
+            if (element == null) {
+                continue;
+            } else if (!(element instanceof Number)) {
+                throw new UnsupportedOperationException(operation + " item type mismatch");
+            }
+            if (count == capacity(array)) {
+                array = copyOf(array, grownCapacity(count));
+            }
+            set(array, count++, (Number) element);
+        }
+        return create(array, count, new AtomicInteger(count));
+    }
+
+    private static int grownCapacity(int size) {
+        return Math.max(MIN_CAPACITY, size + (size >> 1) + 1);
+    }
+}
@@ -0,0 +1,230 @@
+package com.chaining;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * an internal {@link Future} that is completed manually, and notifies it's listeners when
+ * completed, this is the minimal part of {@code CompletableFuture} that {@link AsyncChain}
+ * needs, as the library targets Java 7
+ * <p>
+ * a listener is invoked on the thread that completes the {@link Promise}, or on the thread that
+ * adds it if the {@link Promise} is already completed, the listeners and the executed tasks run in
+ * the {@link ChainConfiguration#scope()} that was running when they were passed
+ * <p>
+ * a {@link Promise} can have an upstream {@link Promise}, which is the one it waits for, and
+ * cancelling it cancels the upstream {@link Promise} as well if this {@link Promise} is it's
+ * only dependent, so the stages that did not start yet are skipped, while an upstream
+ * {@link Promise} that is shared by other dependents keeps running for them
+ *
+ * @param <T> the type of the result
+ */
+final class Promise<T> implements Future<T> {
+
+    private static final int PENDING = 0;
+    private static final int SUCCEEDED = 1;
+    private static final int FAILED = 2;
+
+    private final Promise<?> upstream;
+    private int state = PENDING;
+    private T result;
+    private Throwable error;
+    private List<Runnable> listeners = new ArrayList<>(2);
+    private int dependents;
+
+    Promise() {
+        this(null);
+    }
+
+    Promise(Promise<?> upstream) {
+        this.upstream = upstream;
+        if (upstream != null) {
+            upstream.addDependent();
+        }
+    }
+
+    private synchronized void addDependent() {
+        dependents++;
+    }
+
+    /**
+     * complete this {@link Promise} with a result, if it was not completed before
+     *
+     * @param result the result
+     * @return {@code true} if this call completed the {@link Promise}
+     */
+    boolean succeed(T result) {
+        List<Runnable> completedListeners;
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            this.result = result;
+            this.state = SUCCEEDED;
+            completedListeners = releaseListeners();
+        }
+        runAll(completedListeners);
+        return true;
+    }
+
+    /**
+     * complete this {@link Promise} with an error, if it was not completed before
+     *
+     * @param error the error
+     * @return {@code true} if this call completed the {@link Promise}
+     */
+    boolean fail(Throwable error) {
+        List<Runnable> completedListeners;
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            this.error = error;
+            this.state = FAILED;
+            completedListeners = releaseListeners();
+        }
+        runAll(completedListeners);
+        return true;
+    }
+
+    private List<Runnable> releaseListeners() {
+        List<Runnable> completedListeners = listeners;
+        listeners = null;
+        notifyAll();
+        return completedListeners;
+    }
+
+    private static void runAll(List<Runnable> listeners) {
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * add a listener that is invoked once this {@link Promise} is completed
+     *
+     * @param listener the listener to invoke
+     */
+    void onComplete(Runnable listener) {
+        synchronized (this) {
+            if (state == PENDING) {
+                listeners.add(InternalConfiguration.inCurrentScope(listener));
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    /**
+     * execute the passed {@link Runnable} on the passed {@link Executor}, and fail this
+     * {@link Promise} if the {@link Executor} rejected it
+     *
+     * @param executor the {@link Executor}
+     * @param task     the task to execute
+     */
+    void execute(Executor executor, Runnable task) {
+        try {
+            executor.execute(InternalConfiguration.inCurrentScope(task));
+        } catch (RejectedExecutionException e) {
+            fail(e);
+        }
+    }
+
+    synchronized boolean isSucceeded() {
+        return state == SUCCEEDED;
+    }
+
+    /**
+     * get the result, this method must be called after the {@link Promise} is succeeded
+     *
+     * @return the result
+     */
+    synchronized T result() {
+        return result;
+    }
+
+    /**
+     * get the error, this method must be called after the {@link Promise} is failed
+     *
+     * @return the error
+     */
+    synchronized Throwable error() {
+        return error;
+    }
+
+    /**
+     * fail this {@link Promise} with a {@link CancellationException} if it is not completed, and
+     * cancel the upstream {@link Promise} as well if this {@link Promise} is it's only
+     * dependent, the stages that are already running are not interrupted, but their results are
+     * ignored
+     *
+     * @param mayInterruptIfRunning ignored, running stages are never interrupted
+     * @return {@code true} if this {@link Promise} was cancelled
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = fail(new CancellationException());
+        if (cancelled && upstream != null) {
+            upstream.cancelForDependent(mayInterruptIfRunning);
+        }
+        return cancelled;
+    }
+
+    private void cancelForDependent(boolean mayInterruptIfRunning) {
+        synchronized (this) {
+            if (dependents > 1) {
+                return;
+            }
+        }
+        cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return state == FAILED && error instanceof CancellationException;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return state != PENDING;
+    }
+
+    @Override
+    public synchronized T get() throws InterruptedException, ExecutionException {
+        while (state == PENDING) {
+            wait();
+        }
+        return report();
+    }
+
+    @Override
+    public synchronized T get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (state == PENDING) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return report();
+    }
+
+    private T report() throws ExecutionException {
+        if (state == SUCCEEDED) {
+            return result;
+        } else if (error instanceof CancellationException) {
+            throw (CancellationException) error;
+        } else {
+            throw new ExecutionException(error);
+        }
+    }
+}
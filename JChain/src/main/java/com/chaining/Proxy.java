@@ -2,6 +2,11 @@ package com.chaining;
 
 /**
  * a proxy class that helps classes to communicate internally without exposing the unnecessary API
+ * <p>
+ * the classes of the library extend this class and return themselves from
+ * {@link Internal#access()}, so accessing the internal API does not allocate a new
+ * {@link Proxy} on every call, the methods of this class are package-private, so they are not
+ * visible to the users of the library
  *
  * @param <S> the Outer Object type
  * @param <T> the stored item type
@@ -0,0 +1,101 @@
+package com.chaining;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * builds the {@link MethodHandle} of every {@link ChainPlan} stage, every stage handle is of
+ * the type {@code (Object)Object}, it takes the item of the previous stage and returns the item
+ * for the next stage, so the stages are composed through
+ * {@link MethodHandles#filterReturnValue(MethodHandle, MethodHandle)}
+ */
+class StageHandles {
+
+    static final MethodType STAGE_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodHandle FUNCTION_APPLY;
+    private static final MethodHandle CONSUMER_ACCEPT;
+    private static final MethodHandle PREDICATE_TEST;
+    private static final MethodHandle NOT;
+    private static final MethodHandle IDENTITY = MethodHandles.identity(Object.class);
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            FUNCTION_APPLY = lookup.findVirtual(Function.class, "apply", STAGE_TYPE);
+            CONSUMER_ACCEPT = lookup.findVirtual(Consumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class));
+            PREDICATE_TEST = lookup.findVirtual(Predicate.class, "test",
+                    MethodType.methodType(boolean.class, Object.class));
+            NOT = lookup.findStatic(StageHandles.class, "not",
+                    MethodType.methodType(boolean.class, boolean.class));
+        } catch (Exception e) {
+            throw InternalInvoker.toRuntimeException(e);
+        }
+    }
+
+    private StageHandles() {
+    }
+
+    private static boolean not(boolean expression) {
+        return !expression;
+    }
+
+    /**
+     * the handle that starts a plan with no stages
+     *
+     * @return a handle that returns the passed item
+     */
+    static MethodHandle identity() {
+        return IDENTITY;
+    }
+
+    /**
+     * append a stage to the handle of the previous stages
+     *
+     * @param upstream the handle of the previous stages
+     * @param stage    the handle of the new stage
+     * @return a handle that passes the result of the previous stages to the new stage
+     */
+    static MethodHandle then(MethodHandle upstream, MethodHandle stage) {
+        return MethodHandles.filterReturnValue(upstream, stage);
+    }
+
+    static MethodHandle map(Function<?, ?> mapper) {
+        return FUNCTION_APPLY.bindTo(mapper);
+    }
+
+    /**
+     * invoke the {@link Consumer} first, then return the item through the identity handle
+     */
+    static MethodHandle apply(Consumer<?> action) {
+        return MethodHandles.foldArguments(IDENTITY, CONSUMER_ACCEPT.bindTo(action));
+    }
+
+    static MethodHandle condition(Predicate<?> predicate,
+                                  boolean negateExpression,
+                                  Consumer<?> action) {
+        MethodHandle test = PREDICATE_TEST.bindTo(predicate);
+        if (negateExpression) {
+            test = MethodHandles.filterReturnValue(test, NOT);
+        }
+        return MethodHandles.guardWithTest(test, apply(action), IDENTITY);
+    }
+
+    /**
+     * invoke the mapper, and if it threw an {@link Exception}, pass it to the fallback
+     * {@link Function}, the handler of {@link MethodHandles#catchException(MethodHandle, Class,
+     * MethodHandle)} takes the {@link Exception} and the item, so the item is dropped
+     */
+    static MethodHandle guard(Function<?, ?> mapper, Function<Throwable, ?> fallback) {
+        MethodHandle handler = FUNCTION_APPLY.bindTo(fallback)
+                .asType(MethodType.methodType(Object.class, Exception.class));
+        handler = MethodHandles.dropArguments(handler, 1, Object.class);
+        return MethodHandles.catchException(map(mapper), Exception.class, handler);
+    }
+}
@@ -0,0 +1,33 @@
+package com.chaining;
+
+/**
+ * a source of time in nanoseconds, used by the {@link Lazy} instances that expire, like
+ * {@link Lazy#expiring(java.util.concurrent.Callable, long, java.util.concurrent.TimeUnit)},
+ * a different {@link Ticker} can be passed to control the time in tests
+ */
+public abstract class Ticker {
+
+    private static final Ticker SYSTEM_TICKER = new Ticker() {
+        @Override
+        public long read() {
+            return System.nanoTime();
+        }
+    };
+
+    /**
+     * get the {@link Ticker} that reads {@link System#nanoTime()}
+     *
+     * @return the system {@link Ticker}
+     */
+    public static Ticker systemTicker() {
+        return SYSTEM_TICKER;
+    }
+
+    /**
+     * read the current time, the value is meaningful only when compared to another value of
+     * the same {@link Ticker}
+     *
+     * @return the current time in nanoseconds
+     */
+    public abstract long read();
+}
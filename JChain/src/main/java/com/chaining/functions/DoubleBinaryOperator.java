@@ -0,0 +1,17 @@
+package com.chaining.functions;
+
+/**
+ * a function that combines two double values into one double value without boxing
+ */
+public interface DoubleBinaryOperator {
+
+    /**
+     * combine the two passed values
+     *
+     * @param left  the first value, or the result of the previous combination
+     * @param right the second value
+     * @return the combined value
+     * @throws Exception if the combination failed
+     */
+    double apply(double left, double right) throws Exception;
+}
@@ -0,0 +1,16 @@
+package com.chaining.functions;
+
+/**
+ * a function that converts a double value into another double value without boxing
+ */
+public interface DoubleUnaryOperator {
+
+    /**
+     * convert the passed value
+     *
+     * @param value the value to convert
+     * @return the converted value
+     * @throws Exception if the conversion failed
+     */
+    double apply(double value) throws Exception;
+}
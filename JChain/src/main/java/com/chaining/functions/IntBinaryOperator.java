@@ -0,0 +1,17 @@
+package com.chaining.functions;
+
+/**
+ * a function that combines two int values into one int value without boxing
+ */
+public interface IntBinaryOperator {
+
+    /**
+     * combine the two passed values
+     *
+     * @param left  the first value, or the result of the previous combination
+     * @param right the second value
+     * @return the combined value
+     * @throws Exception if the combination failed
+     */
+    int apply(int left, int right) throws Exception;
+}
@@ -0,0 +1,15 @@
+package com.chaining.functions;
+
+/**
+ * a function that accepts an int value without boxing, usually for side-effects
+ */
+public interface IntConsumer {
+
+    /**
+     * consume the passed value
+     *
+     * @param value the value to consume
+     * @throws Exception if the operation failed
+     */
+    void accept(int value) throws Exception;
+}
@@ -0,0 +1,16 @@
+package com.chaining.functions;
+
+/**
+ * a function that converts an int value into another int value without boxing
+ */
+public interface IntUnaryOperator {
+
+    /**
+     * convert the passed value
+     *
+     * @param value the value to convert
+     * @return the converted value
+     * @throws Exception if the conversion failed
+     */
+    int apply(int value) throws Exception;
+}
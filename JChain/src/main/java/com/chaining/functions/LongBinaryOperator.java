@@ -0,0 +1,17 @@
+package com.chaining.functions;
+
+/**
+ * a function that combines two long values into one long value without boxing
+ */
+public interface LongBinaryOperator {
+
+    /**
+     * combine the two passed values
+     *
+     * @param left  the first value, or the result of the previous combination
+     * @param right the second value
+     * @return the combined value
+     * @throws Exception if the combination failed
+     */
+    long apply(long left, long right) throws Exception;
+}
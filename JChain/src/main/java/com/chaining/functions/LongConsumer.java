@@ -0,0 +1,15 @@
+package com.chaining.functions;
+
+/**
+ * a function that accepts a long value without boxing, usually for side-effects
+ */
+public interface LongConsumer {
+
+    /**
+     * consume the passed value
+     *
+     * @param value the value to consume
+     * @throws Exception if the operation failed
+     */
+    void accept(long value) throws Exception;
+}
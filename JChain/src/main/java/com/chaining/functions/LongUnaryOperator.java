@@ -0,0 +1,16 @@
+package com.chaining.functions;
+
+/**
+ * a function that converts a long value into another long value without boxing
+ */
+public interface LongUnaryOperator {
+
+    /**
+     * convert the passed value
+     *
+     * @param value the value to convert
+     * @return the converted value
+     * @throws Exception if the conversion failed
+     */
+    long apply(long value) throws Exception;
+}
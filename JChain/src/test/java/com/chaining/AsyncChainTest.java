@@ -0,0 +1,389 @@
+package com.chaining;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncChainTest {
+
+    private final ExecutorService ioPool = Executors.newSingleThreadExecutor(named("io"));
+    private final ExecutorService cpuPool = Executors.newSingleThreadExecutor(named("cpu"));
+
+    @After
+    public void shutdown() {
+        ioPool.shutdownNow();
+        cpuPool.shutdownNow();
+    }
+
+    @Test
+    public void asyncThenRunTheCallableOnTheExecutor() {
+        String threadName = Chain.async(currentThreadName(), ioPool).join();
+        assertEquals("io", threadName);
+    }
+
+    @Test
+    public void mapAndMapAsyncThenRunEveryStageOnItsExecutor() {
+        final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch release = new CountDownLatch(1);
+
+        AsyncChain<Integer> chain = Chain.async(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                release.await();
+                threads.add(Thread.currentThread().getName());
+                return 1;
+            }
+        }, ioPool)
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        threads.add(Thread.currentThread().getName());
+                        return item + 1;
+                    }
+                })
+                .mapAsync(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        threads.add(Thread.currentThread().getName());
+                        return item * 10;
+                    }
+                }, cpuPool);
+        release.countDown();
+        int result = chain.join();
+
+        assertTrue(result == 20 && threads.get(0).equals("io") && threads.get(1).equals("io")
+                && threads.get(2).equals("cpu"));
+    }
+
+    @Test
+    public void asyncThenDoNotBlockTheCallerThread() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        AsyncChain<Integer> chain = Chain.async(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                release.await();
+                return 1;
+            }
+        }, ioPool).map(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) {
+                return item + 1;
+            }
+        });
+
+        Future<Integer> future = chain.toFuture();
+        assertFalse(future.isDone());
+        release.countDown();
+        assertEquals(2, (int) future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void applyAndApplyAsyncThenKeepTheItem() {
+        final List<Integer> result = Collections.synchronizedList(new ArrayList<Integer>());
+
+        int item = Chain.async(value(5), ioPool)
+                .apply(addTo(result))
+                .applyAsync(addTo(result), cpuPool)
+                .join();
+
+        assertTrue(item == 5 && result.size() == 2);
+    }
+
+    @Test
+    public void whenThenWithValidItemThenInvokeTheAction() {
+        final List<Integer> result = Collections.synchronizedList(new ArrayList<Integer>());
+
+        Chain.async(value(5), ioPool)
+                .when(isPositive()).then(addTo(result))
+                .whenNot(isPositive()).then(addTo(result))
+                .join();
+
+        assertEquals(Collections.singletonList(5), result);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void joinWithCrashingStageThenThrowRuntimeException() {
+        Chain.async(value(1), ioPool).map(crash()).join();
+    }
+
+    @Test
+    public void mapAfterCrashingStageThenSkipTheStage() {
+        final List<Integer> result = Collections.synchronizedList(new ArrayList<Integer>());
+        try {
+            Chain.async(value(1), ioPool).map(crash()).apply(addTo(result)).join();
+            fail();
+        } catch (RuntimeException e) {
+            assertTrue(result.isEmpty());
+        }
+    }
+
+    @Test
+    public void onErrorReturnWithCrashingStageThenReturnTheFallbackItem() {
+        int result = Chain.async(value(1), ioPool)
+                .map(crash())
+                .onErrorReturn(new Function<Throwable, Integer>() {
+                    @Override
+                    public Integer apply(Throwable error) {
+                        return error instanceof IOException ? -1 : -2;
+                    }
+                })
+                .join();
+
+        assertEquals(-1, result);
+    }
+
+    @Test
+    public void onErrorReturnItemWithNoCrashThenReturnTheItem() {
+        int result = Chain.async(value(1), ioPool).onErrorReturnItem(-1).join();
+        assertEquals(1, result);
+    }
+
+    @Test
+    public void toFutureWithCrashingStageThenThrowExecutionException() throws Exception {
+        try {
+            Chain.async(value(1), ioPool).map(crash()).toFuture().get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test(expected = CancellationException.class)
+    public void joinAfterCancellingTheFutureThenThrowCancellationException() {
+        final CountDownLatch release = new CountDownLatch(1);
+        AsyncChain<Integer> chain = Chain.async(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                release.await();
+                return 1;
+            }
+        }, ioPool);
+
+        chain.toFuture().cancel(false);
+        release.countDown();
+        chain.join();
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void asyncWithRejectingExecutorThenThrowTheRejection() {
+        Chain.async(value(1), new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        }).join();
+    }
+
+    @Test
+    public void cancelWhileSourceIsRunningThenSkipTheNextStages() throws Exception {
+        final List<Integer> result = Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch release = new CountDownLatch(1);
+        AsyncChain<Integer> chain = Chain.async(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                release.await();
+                return 1;
+            }
+        }, ioPool)
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        result.add(item);
+                        return item;
+                    }
+                })
+                .mapAsync(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        result.add(item);
+                        return item;
+                    }
+                }, cpuPool);
+
+        assertTrue(chain.toFuture().cancel(true));
+        release.countDown();
+        ioPool.shutdown();
+        cpuPool.shutdown();
+        ioPool.awaitTermination(5, TimeUnit.SECONDS);
+        cpuPool.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void cancelBeforeSourceStartedThenNeverInvokeTheCallable() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Integer> result = Collections.synchronizedList(new ArrayList<Integer>());
+        ioPool.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        AsyncChain<Integer> chain = Chain.async(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                result.add(1);
+                return 1;
+            }
+        }, ioPool).apply(addTo(result));
+
+        chain.toFuture().cancel(false);
+        release.countDown();
+        ioPool.shutdown();
+        ioPool.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isEmpty() && chain.toFuture().isCancelled());
+    }
+
+    @Test
+    public void cancelOneOfTwoBranchesThenCompleteTheOtherBranch() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        AsyncChain<Integer> source = Chain.async(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                release.await();
+                return 1;
+            }
+        }, ioPool);
+        AsyncChain<Integer> cancelled = source.map(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) {
+                return item + 1;
+            }
+        });
+        AsyncChain<Integer> completed = source.map(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) {
+                return item + 2;
+            }
+        });
+
+        assertTrue(cancelled.toFuture().cancel(false));
+        release.countDown();
+
+        assertEquals(3, (int) completed.toFuture().get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void guardMapWithCrashingMapperThenReturnTheFallbackItem() {
+        int result = Chain.async(value(1), ioPool)
+                .guardMap(crash())
+                .onErrorReturnItem(-1)
+                .join();
+
+        assertEquals(-1, result);
+    }
+
+    @Test
+    public void guardMapWithValidMapperThenReturnTheMappedItem() {
+        int result = Chain.async(value(1), ioPool)
+                .guardMap(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        return item + 1;
+                    }
+                })
+                .onErrorReturn(new Function<Throwable, Integer>() {
+                    @Override
+                    public Integer apply(Throwable error) {
+                        return -1;
+                    }
+                })
+                .join();
+
+        assertEquals(2, result);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void guardMapAfterCrashingStageThenDoNotRecover() {
+        Chain.async(value(1), ioPool)
+                .map(crash())
+                .guardMap(crash())
+                .onErrorReturnItem(-1)
+                .join();
+    }
+
+    private static Callable<String> currentThreadName() {
+        return new Callable<String>() {
+            @Override
+            public String call() {
+                return Thread.currentThread().getName();
+            }
+        };
+    }
+
+    private static Callable<Integer> value(final int value) {
+        return new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return value;
+            }
+        };
+    }
+
+    private static Function<Integer, Integer> crash() {
+        return new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) throws Exception {
+                throw new IOException();
+            }
+        };
+    }
+
+    private static Predicate<Integer> isPositive() {
+        return new Predicate<Integer>() {
+            @Override
+            public boolean test(Integer item) {
+                return item > 0;
+            }
+        };
+    }
+
+    private static Consumer<Integer> addTo(final List<Integer> list) {
+        return new Consumer<Integer>() {
+            @Override
+            public void accept(Integer item) {
+                list.add(item);
+            }
+        };
+    }
+
+    private static ThreadFactory named(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new Thread(runnable, name);
+            }
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.chaining;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import io.reactivex.functions.Consumer;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BloomMembershipTest {
+
+    @Test
+    public void containsWithAllItemsThenReturnTrueForEveryItem() {
+        List<String> items = items(0, 20000);
+        BloomMembership<String> membership = Chain.bloomMembership(items, 0.01);
+        for (String item : items) {
+            assertTrue(membership.contains(item));
+        }
+    }
+
+    @Test
+    public void containsWithMissingItemsThenReturnFalseForEveryItem() {
+        BloomMembership<String> membership = Chain.bloomMembership(items(0, 20000), 0.01);
+        for (String item : items(20000, 40000)) {
+            assertFalse(membership.contains(item));
+        }
+    }
+
+    @Test
+    public void containsWithEqualHashCodesThenCompareThroughEquals() {
+        // "Aa" and "BB" have the same hash code
+        BloomMembership<String> membership = Chain.bloomMembership(Arrays.asList("Aa"), 0.01);
+        assertTrue(membership.contains("Aa") && !membership.contains("BB"));
+    }
+
+    @Test
+    public void containsWithNullItemThenReturnFalse() {
+        assertFalse(Chain.bloomMembership(Arrays.asList("A", null), 0.01).contains(null));
+    }
+
+    @Test
+    public void containsWithNullCollectionThenReturnFalse() {
+        assertFalse(Chain.bloomMembership((Collection<String>) null, 0.01).contains("A"));
+    }
+
+    @Test
+    public void bloomMembershipWithLowerFalsePositiveRateThenUseMoreBits() {
+        List<String> items = items(0, 1000);
+        BloomMembership<String> loose = Chain.bloomMembership(items, 0.1);
+        BloomMembership<String> strict = Chain.bloomMembership(items, 0.0001);
+        assertTrue(strict.bitCount() > loose.bitCount()
+                && strict.hashFunctions() > loose.hashFunctions());
+    }
+
+    @Test
+    public void footprintBytesThenIncludeTheBitsAndTheSortedArrays() {
+        BloomMembership<String> membership = Chain.bloomMembership(items(0, 1000), 0.01);
+        assertTrue(membership.footprintBytes() >= membership.bitCount() / 8 + 1000 * 8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bloomMembershipWithInvalidFalsePositiveRateThenThrowException() {
+        Chain.bloomMembership(items(0, 10), 1);
+    }
+
+    @Test
+    public void whenNotInWithBloomMembershipThenInvokeForMissingItemsOnly() {
+        BloomMembership<String> membership = Chain.bloomMembership(items(0, 100), 0.01);
+        final List<String> result = new ArrayList<>();
+        Consumer<String> addToResult = new Consumer<String>() {
+            @Override
+            public void accept(String item) {
+                result.add(item);
+            }
+        };
+
+        Chain.let("item-5").whenNotIn(membership).then(addToResult);
+        Chain.let("item-500").whenNotIn(membership).then(addToResult);
+
+        assertTrue(result.size() == 1 && result.get(0).equals("item-500"));
+    }
+
+    private static List<String> items(int from, int to) {
+        List<String> items = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            items.add("item-" + i);
+        }
+        return items;
+    }
+}
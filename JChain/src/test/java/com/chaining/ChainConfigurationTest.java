@@ -2,8 +2,20 @@ package com.chaining;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.reactivex.functions.Action;
 import io.reactivex.functions.BiConsumer;
+import io.reactivex.functions.Function;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -44,4 +56,174 @@ public class ChainConfigurationTest {
                 && c.getExceptionLogger() != null);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void scopeRunThenStartChainsWithTheScopeConfiguration() {
+        final InternalConfiguration[] result = new InternalConfiguration[3];
+        ChainConfiguration.Scope scope = ChainConfiguration.scope();
+        scope.run(new Action() {
+            @Override
+            public void run() throws Exception {
+                result[0] = Chain.let(1).configuration;
+                result[1] = Chain.optional(1).access().getConfiguration();
+                result[2] = Chain.let(1).and(2).access().getConfiguration();
+            }
+        });
+
+        InternalConfiguration scoped = scope.configuration;
+        assertTrue(result[0] == scoped && result[1] == scoped && result[2] == scoped);
+    }
+
+    @Test
+    public void scopeRunThenRestoreDefaultConfigurationAfterExecution() {
+        ChainConfiguration.scope().run(new Action() {
+            @Override
+            public void run() throws Exception {
+            }
+        });
+
+        assertSame(InternalConfiguration.getInstance(null), Chain.let(1).configuration);
+    }
+
+    @Test
+    public void scopeRunWithCrashingActionThenRestoreDefaultConfiguration() {
+        try {
+            ChainConfiguration.scope().run(new Action() {
+                @Override
+                public void run() throws Exception {
+                    throw new UnsupportedOperationException();
+                }
+            });
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        assertSame(InternalConfiguration.getInstance(null), Chain.let(1).configuration);
+    }
+
+    @Test
+    public void scopeCallInsideAnotherScopeThenRestoreTheOuterScope() {
+        final ChainConfiguration.Scope inner = ChainConfiguration.scope();
+        ChainConfiguration.Scope outer = ChainConfiguration.scope();
+        InternalConfiguration result = outer.call(new Callable<InternalConfiguration>() {
+            @Override
+            public InternalConfiguration call() throws Exception {
+                inner.call(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        return Chain.let(1).call();
+                    }
+                });
+                return Chain.let(1).configuration;
+            }
+        });
+
+        assertSame(outer.configuration, result);
+    }
+
+    @Test
+    public void scopeSettersThenUpdateOnlyTheScopeConfiguration() {
+        ChainConfiguration.Scope scope = ChainConfiguration.scope()
+                .setDebugging(true)
+                .setLogging(true)
+                .setInfoLogger(new BiConsumer<Object, Object>() {
+                    @Override
+                    public void accept(Object o, Object o2) throws Exception {
+
+                    }
+                });
+
+        InternalConfiguration scoped = scope.configuration;
+        InternalConfiguration other = ChainConfiguration.scope().configuration;
+        assertTrue(scoped.isDebugging() && scoped.isLogging() && scoped.getInfoLogger() != null
+                && !other.isDebugging() && !other.isLogging() && other.getInfoLogger() == null);
+    }
+
+    @Test
+    public void scopeTwiceThenCreateSeparateConfigurations() {
+        ChainConfiguration.Scope first = ChainConfiguration.scope();
+        ChainConfiguration.Scope second = ChainConfiguration.scope();
+
+        assertTrue(first.configuration != second.configuration
+                && first.configuration != InternalConfiguration.getInstance(null));
+    }
+
+    @Test
+    public void scopeRunWithLoggingThenLogOnlyInsideTheScope() {
+        final List<Object> logs = new ArrayList<>();
+        ChainConfiguration.scope()
+                .setLogging(true)
+                .setInfoLogger(new BiConsumer<Object, Object>() {
+                    @Override
+                    public void accept(Object tag, Object message) throws Exception {
+                        logs.add(message);
+                    }
+                })
+                .run(new Action() {
+                    @Override
+                    public void run() throws Exception {
+                        Chain.let(1).log("tag").info("inside");
+                    }
+                });
+
+        Chain.let(1).log("tag").info("outside");
+
+        assertEquals(Arrays.<Object>asList("inside"), logs);
+    }
+
+    @Test
+    public void scopeCallWithAsyncChainThenRunTheStagesInTheScope() throws Exception {
+        final List<InternalConfiguration> result =
+                Collections.synchronizedList(new ArrayList<InternalConfiguration>());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Function<Integer, Integer> stage = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) {
+                result.add(Chain.let(item).configuration);
+                return item;
+            }
+        };
+        ChainConfiguration.Scope scope = ChainConfiguration.scope();
+        AsyncChain<Integer> chain = scope.call(new Callable<AsyncChain<Integer>>() {
+            @Override
+            public AsyncChain<Integer> call() {
+                return Chain.async(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        result.add(Chain.let(1).configuration);
+                        return 1;
+                    }
+                }, executor).map(stage).mapAsync(stage, executor);
+            }
+        });
+
+        chain.join();
+        executor.shutdown();
+
+        InternalConfiguration scoped = scope.configuration;
+        assertEquals(Arrays.asList(scoped, scoped, scoped), result);
+    }
+
+    @Test
+    public void scopeRunWithLazyPrefetchThenInitializeInTheScope() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Lazy<InternalConfiguration> lazy = Lazy.defer(new Callable<InternalConfiguration>() {
+            @Override
+            public InternalConfiguration call() {
+                return Chain.let(1).configuration;
+            }
+        });
+        ChainConfiguration.Scope scope = ChainConfiguration.scope();
+        scope.run(new Action() {
+            @Override
+            public void run() {
+                lazy.prefetch(executor);
+            }
+        });
+
+        InternalConfiguration result = lazy.call();
+        executor.shutdown();
+
+        assertSame(scope.configuration, result);
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.chaining;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ChainExecutorsTest {
+
+    @Test
+    public void virtualThenReturnTheSameInstance() {
+        assertSame(ChainExecutors.virtual(), ChainExecutors.virtual());
+    }
+
+    @Test
+    public void virtualWithNoVirtualThreadsSupportThenReturnTheBoundedPool() {
+        boolean supported = ChainExecutors.virtualOrNull(ChainExecutors.VIRTUAL_EXECUTOR_FACTORY)
+                != null;
+
+        assertEquals(supported, ChainExecutors.isVirtualSupported());
+        assertEquals(!supported, ChainExecutors.virtual() == ChainExecutors.bounded());
+    }
+
+    @Test
+    public void virtualOrNullWithMissingFactoryMethodThenReturnNull() {
+        assertNull(ChainExecutors.virtualOrNull("newMissingExecutor"));
+    }
+
+    @Test
+    public void virtualOrNullWithExistingFactoryMethodThenReturnExecutorService() {
+        ExecutorService executor = ChainExecutors.virtualOrNull("newCachedThreadPool");
+        assertNotNull(executor);
+        executor.shutdown();
+    }
+
+    @Test
+    public void boundedPoolThenRunTasksOnDaemonThreads() throws Exception {
+        ThreadPoolExecutor pool = ChainExecutors.boundedPool(2);
+        try {
+            boolean daemon = Chain.async(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return Thread.currentThread().isDaemon();
+                }
+            }, pool).join();
+
+            assertTrue(daemon);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void boundedPoolWithMoreTasksThanThreadsThenQueueTheExtraTasks() throws Exception {
+        ThreadPoolExecutor pool = ChainExecutors.boundedPool(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 5; i++) {
+                pool.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }
+
+            assertTrue(pool.getPoolSize() == 2 && pool.getQueue().size() == 3);
+        } finally {
+            release.countDown();
+            pool.shutdown();
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void asyncWithManyBlockingCallablesThenCompleteAll() {
+        final CountDownLatch started = new CountDownLatch(ChainExecutors.BOUNDED_POOL_SIZE);
+        AsyncChain<?>[] chains = new AsyncChain<?>[ChainExecutors.BOUNDED_POOL_SIZE];
+        for (int i = 0; i < chains.length; i++) {
+            chains[i] = Chain.async(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    started.countDown();
+                    return started.await(5, TimeUnit.SECONDS);
+                }
+            });
+        }
+
+        for (AsyncChain<?> chain : chains) {
+            assertEquals(true, chain.join());
+        }
+    }
+}
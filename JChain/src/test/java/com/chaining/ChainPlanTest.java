@@ -0,0 +1,267 @@
+package com.chaining;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ChainPlanTest {
+
+    private final Function<Integer, Integer> multiplyByTwo = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer item) {
+            return item * 2;
+        }
+    };
+
+    private final Function<Integer, String> toText = new Function<Integer, String>() {
+        @Override
+        public String apply(Integer item) {
+            return String.valueOf(item);
+        }
+    };
+
+    private final Predicate<Integer> isPositive = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer item) {
+            return item > 0;
+        }
+    };
+
+    @Test
+    public void compileWithNoStagesThenReturnThePassedItem() throws Exception {
+        Function<Integer, Integer> function = ChainPlan.<Integer>start().compile();
+        assertEquals(1, (int) function.apply(1));
+    }
+
+    @Test
+    public void compileWithMapStagesThenReturnTheMappedItem() throws Exception {
+        Function<Integer, String> function = ChainPlan.<Integer>start()
+                .map(multiplyByTwo)
+                .map(toText)
+                .compile();
+
+        assertEquals("4", function.apply(2));
+    }
+
+    @Test
+    public void compileThenMatchTheChainResult() throws Exception {
+        final List<Integer> planResults = new ArrayList<>();
+        final List<Integer> chainResults = new ArrayList<>();
+
+        Function<Integer, String> function = ChainPlan.<Integer>start()
+                .map(multiplyByTwo)
+                .when(isPositive).then(addTo(planResults))
+                .map(toText)
+                .compile();
+
+        for (int item : Arrays.asList(-1, 0, 1, 2)) {
+            String chainResult = Chain.let(item)
+                    .map(multiplyByTwo)
+                    .when(isPositive).then(addTo(chainResults))
+                    .map(toText)
+                    .call();
+            assertEquals(chainResult, function.apply(item));
+        }
+        assertEquals(chainResults, planResults);
+    }
+
+    @Test
+    public void whenNotThenInvokeOnlyIfThePredicateRejectedTheItem() throws Exception {
+        List<Integer> result = new ArrayList<>();
+        Function<Integer, Integer> function = ChainPlan.<Integer>start()
+                .whenNot(isPositive).then(addTo(result))
+                .compile();
+
+        function.apply(1);
+        function.apply(-1);
+
+        assertEquals(Arrays.asList(-1), result);
+    }
+
+    @Test
+    public void whenInAndWhenNotInWithMembershipThenInvokeOnValidItems() throws Exception {
+        List<Integer> inResult = new ArrayList<>();
+        List<Integer> notInResult = new ArrayList<>();
+        Membership<Integer> membership = Chain.membership(Arrays.asList(1, 2));
+        Function<Integer, Integer> function = ChainPlan.<Integer>start()
+                .whenIn(membership).then(addTo(inResult))
+                .whenNotIn(membership).then(addTo(notInResult))
+                .compile();
+
+        function.apply(1);
+        function.apply(3);
+
+        assertTrue(inResult.equals(Arrays.asList(1)) && notInResult.equals(Arrays.asList(3)));
+    }
+
+    @Test
+    public void applyThenInvokeTheConsumerAndKeepTheItem() throws Exception {
+        List<Integer> result = new ArrayList<>();
+        Function<Integer, Integer> function = ChainPlan.<Integer>start()
+                .apply(addTo(result))
+                .compile();
+
+        assertTrue(function.apply(5) == 5 && result.equals(Arrays.asList(5)));
+    }
+
+    @Test
+    public void addStageThenDoNotModifyTheOriginalPlan() throws Exception {
+        ChainPlan<Integer, Integer> plan = ChainPlan.<Integer>start().map(multiplyByTwo);
+        plan.map(multiplyByTwo);
+
+        assertEquals(2, (int) plan.compile().apply(1));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void compileWithCrashingStageThenThrowRuntimeException() throws Exception {
+        ChainPlan.<Integer>start()
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) throws Exception {
+                        throw new IOException();
+                    }
+                })
+                .compile()
+                .apply(1);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void compileStagesWithCrashingStageThenThrowRuntimeException() throws Exception {
+        ChainPlan.<Integer>start()
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) throws Exception {
+                        throw new IOException();
+                    }
+                })
+                .compileStages()
+                .apply(1);
+    }
+
+    @Test
+    public void compileThenShareTheFunctionBetweenThreads() throws Exception {
+        final Function<Integer, Integer> function = ChainPlan.<Integer>start()
+                .map(multiplyByTwo)
+                .compile();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 100; i++) {
+                final int item = i;
+                results.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        return function.apply(item);
+                    }
+                }));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i * 2, (int) results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void compileStagesThenMatchTheMethodHandleFunction() throws Exception {
+        final List<Integer> handleResults = new ArrayList<>();
+        final List<Integer> compiledResults = new ArrayList<>();
+
+        Function<Integer, String> handleFunction = mixedPlan(handleResults)
+                .compileWithMethodHandles();
+        Function<Integer, String> compiledFunction = mixedPlan(compiledResults)
+                .compileStages();
+
+        for (int item : Arrays.asList(-2, -1, 0, 1, 2, 3)) {
+            assertEquals(compiledFunction.apply(item), handleFunction.apply(item));
+        }
+        assertEquals(compiledResults, handleResults);
+    }
+
+    private ChainPlan<Integer, String> mixedPlan(List<Integer> results) {
+        return ChainPlan.<Integer>start()
+                .map(multiplyByTwo)
+                .when(isPositive).then(addTo(results))
+                .whenNot(isPositive).then(addTo(results))
+                .apply(addTo(results))
+                .guardMap(crashOnZero)
+                .onErrorReturn(new Function<Throwable, Integer>() {
+                    @Override
+                    public Integer apply(Throwable error) {
+                        return -100;
+                    }
+                })
+                .map(toText);
+    }
+
+    private final Function<Integer, Integer> crashOnZero = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer item) throws Exception {
+            if (item == 0) {
+                throw new IOException();
+            }
+            return item;
+        }
+    };
+
+    @Test
+    public void guardMapWithCrashingMapperThenReturnTheFallbackItem() throws Exception {
+        Function<Integer, Integer> function = ChainPlan.<Integer>start()
+                .guardMap(crashOnZero)
+                .onErrorReturn(new Function<Throwable, Integer>() {
+                    @Override
+                    public Integer apply(Throwable error) {
+                        return error instanceof IOException ? -1 : -2;
+                    }
+                })
+                .compile();
+
+        assertTrue(function.apply(0) == -1 && function.apply(5) == 5);
+    }
+
+    @Test
+    public void toMethodHandleThenInvokeExactWithObjectType() throws Throwable {
+        MethodHandle handle = ChainPlan.<Integer>start()
+                .map(multiplyByTwo)
+                .map(toText)
+                .toMethodHandle();
+
+        Object result = handle.invokeExact((Object) 3);
+
+        assertEquals("6", result);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void compileWithMethodHandlesWithCrashingStageThenThrowRuntimeException()
+            throws Exception {
+        ChainPlan.<Integer>start()
+                .map(crashOnZero)
+                .compileWithMethodHandles()
+                .apply(0);
+    }
+
+    private static Consumer<Integer> addTo(final List<Integer> list) {
+        return new Consumer<Integer>() {
+            @Override
+            public void accept(Integer item) {
+                list.add(item);
+            }
+        };
+    }
+}
@@ -1,15 +1,28 @@
 package com.chaining;
 
 import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Triplet;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import io.reactivex.annotations.NonNull;
 import io.reactivex.functions.Action;
@@ -20,7 +33,10 @@ import io.reactivex.functions.Function;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 
 public class ChainTest {
 
@@ -604,12 +620,54 @@ public class ChainTest {
 
     }
 
+    @Test
+    public void collectWithIterableHoldingNullItemsThenSkipNullItems() {
+        List<Integer> result = Chain.let(Arrays.asList(1, null, 3))
+                .collect(Integer.class)
+                .toList()
+                .call();
+
+        assertEquals(Arrays.asList(1, 3), result);
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void collectWithWrongTypeThenThrowException() {
         Map map = new HashMap();
         Chain.let(map).collect(Integer.class);
     }
 
+    @Test
+    public void collectIntsWithIterableThenReturnIntCollectorWithThisListItems() {
+        long result = Chain.let(Arrays.asList(1, 2, 3))
+                .collectInts()
+                .sum();
+
+        assertEquals(6L, result);
+    }
+
+    @Test
+    public void collectLongsWithOneItemThenReturnLongCollectorWithThisItem() {
+        long result = Chain.let(10L)
+                .collectLongs()
+                .max();
+
+        assertEquals(10L, result);
+    }
+
+    @Test
+    public void collectDoublesWithArrayThenReturnDoubleCollectorWithArrayItems() {
+        double result = Chain.let(new double[]{1.5, 2.5})
+                .collectDoubles()
+                .sum();
+
+        assertEquals(4.0, result, 0.0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void collectIntsWithWrongTypeThenThrowException() {
+        Chain.let("1").collectInts();
+    }
+
     @Test
     public void logWithSelfAsSourceThenReturnSelfAsSource() {
         Chain<?> source = Chain.let(0);
@@ -673,6 +731,64 @@ public class ChainTest {
         assertTrue(result);
     }
 
+    @Test
+    public void whenInSortedWithValidCollectionThenReturnValidCondition() {
+        boolean result = Chain.let(20L)
+                .whenInSorted(Arrays.asList(30L, 10L, 20L), new Comparator<Long>() {
+                    @Override
+                    public int compare(Long left, Long right) {
+                        return left.compareTo(right);
+                    }
+                })
+                .thenTo(true)
+                .defaultIfEmpty(false)
+                .call();
+
+        assertTrue(result);
+    }
+
+    @Test
+    public void whenNotInSortedWithInValidCollectionThenReturnValidCondition() {
+        boolean result = Chain.let(20L)
+                .whenNotInSorted(Arrays.asList(30L, 10L), new Comparator<Long>() {
+                    @Override
+                    public int compare(Long left, Long right) {
+                        return left.compareTo(right);
+                    }
+                })
+                .thenTo(true)
+                .defaultIfEmpty(false)
+                .call();
+
+        assertTrue(result);
+    }
+
+    @Test
+    public void whenInWithMembershipHoldingItemThenReturnValidCondition() {
+        Membership<Integer> membership = Chain.membership(Arrays.asList(0, 1, 2));
+
+        boolean result = Chain.let(0)
+                .whenIn(membership)
+                .thenTo(true)
+                .defaultIfEmpty(false)
+                .call();
+
+        assertTrue(result);
+    }
+
+    @Test
+    public void whenNotInWithMembershipHoldingItemThenReturnInValidCondition() {
+        Membership<Integer> membership = Chain.membership(Arrays.asList(0, 1, 2));
+
+        boolean result = Chain.let(0)
+                .whenNotIn(membership)
+                .thenTo(true)
+                .defaultIfEmpty(false)
+                .call();
+
+        assertFalse(result);
+    }
+
     @Test
     public void runChainProxyTester() {
         Chain<Integer> chain =
@@ -680,6 +796,220 @@ public class ChainTest {
 
         new ProxyTester<>(chain, 1).run();
     }
+
+    @Test
+    public void applyInvokeAndDebugThenReturnTheSameChain() {
+        Chain<Integer> chain = new Chain<>(0,
+                InternalConfiguration.getInstance("applyInvokeAndDebugThenReturnTheSameChain"));
+
+        Chain<Integer> result = chain.apply(ignoreItem).invoke(doNothing).debug(ignoreItem);
+
+        assertSame(chain, result);
+    }
+
+    @Test
+    public void defaultIfEmptyWithNonNullItemThenReturnTheSameChain() {
+        Chain<Integer> chain = Chain.let(0);
+        assertSame(chain, chain.defaultIfEmpty(1));
+    }
+
+    @Test
+    public void applyInvokeAndDebugInLoopThenDoNotAllocate() throws Exception {
+        InternalConfiguration configuration =
+                InternalConfiguration.getInstance("applyInvokeAndDebugInLoopThenDoNotAllocate");
+        configuration.setDebugging(true);
+        Chain<Integer> chain = new Chain<>(0, configuration);
+        Optional<Integer> optional = new Optional<>(0, configuration);
+
+        assumeTrue(currentThreadAllocatedBytes() >= 0);
+        runSideEffects(chain, optional, 1000);
+
+        // the 10000 iterations used to allocate 60000 Chain and Optional wrappers, the minimum
+        // of a few rounds skips the rounds where the JIT compiler swaps the running code, and
+        // the limit leaves room for the reflective call to the allocation counter only
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long allocatedBefore = currentThreadAllocatedBytes();
+            runSideEffects(chain, optional, 10000);
+            allocated = Math.min(allocated, currentThreadAllocatedBytes() - allocatedBefore);
+        }
+        assertTrue("allocated " + allocated + " bytes", allocated < 10000);
+    }
+
+    private final Consumer<Integer> ignoreItem = new Consumer<Integer>() {
+        @Override
+        public void accept(Integer item) throws Exception {
+        }
+    };
+
+    private final Action doNothing = new Action() {
+        @Override
+        public void run() throws Exception {
+        }
+    };
+
+    private void runSideEffects(Chain<Integer> chain, Optional<Integer> optional, int count) {
+        for (int i = 0; i < count; i++) {
+            chain.apply(ignoreItem).invoke(doNothing).debug(ignoreItem);
+            optional.apply(ignoreItem).invoke(doNothing).debug(ignoreItem);
+        }
+    }
+
+    /**
+     * read the bytes allocated by the current thread through the HotSpot specific
+     * {@code com.sun.management.ThreadMXBean}, without depending on it at compile time
+     *
+     * @return the allocated bytes, or {@code -1} if not supported by the running JVM
+     */
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        try {
+            Method method = Class.forName("com.sun.management.ThreadMXBean")
+                    .getMethod("getThreadAllocatedBytes", long.class);
+            return (Long) method.invoke(bean, Thread.currentThread().getId());
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    @Test
+    public void forkWithTwoMappersThenRunThemConcurrently() {
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            CyclicBarrier bothRunning = new CyclicBarrier(2);
+            Pair<Integer, Integer> result = Chain.let(1)
+                    .fork(awaitThenAdd(bothRunning, 1), awaitThenAdd(bothRunning, 2), executor)
+                    .call();
+
+            assertEquals(Pair.with(2, 3), result);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void forkInsideTaskOfTheSameSingleThreadExecutorThenDoNotDeadlock() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Pair<Integer, Integer>> result = executor.submit(
+                    new Callable<Pair<Integer, Integer>>() {
+                        @Override
+                        public Pair<Integer, Integer> call() throws Exception {
+                            return Chain.let(1)
+                                    .fork(sleepThenAdd(0, 1), sleepThenAdd(0, 2), executor)
+                                    .call();
+                        }
+                    });
+
+            assertEquals(Pair.with(2, 3), result.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void forkWithThreeAndFourMappersThenJoinTheResultsInOrder() {
+        Triplet<Integer, Integer, Integer> triplet = Chain.let(1)
+                .fork(sleepThenAdd(20, 1), sleepThenAdd(10, 2), sleepThenAdd(0, 3))
+                .call();
+        Quartet<Integer, Integer, Integer, Integer> quartet = Chain.let(1)
+                .fork(sleepThenAdd(0, 1), sleepThenAdd(10, 2), sleepThenAdd(20, 3),
+                        sleepThenAdd(5, 4))
+                .call();
+
+        assertTrue(triplet.equals(Triplet.with(2, 3, 4))
+                && quartet.equals(Quartet.with(2, 3, 4, 5)));
+    }
+
+    @Test
+    public void forkWithCrashingMapperThenCancelTheSiblingAndThrowTheException() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        final CountDownLatch siblingStarted = new CountDownLatch(1);
+        final CountDownLatch siblingInterrupted = new CountDownLatch(1);
+        try {
+            Chain.let(1).fork(new Function<Integer, Integer>() {
+                @Override
+                public Integer apply(Integer item) throws Exception {
+                    siblingStarted.countDown();
+                    try {
+                        Thread.sleep(10000);
+                    } catch (InterruptedException e) {
+                        siblingInterrupted.countDown();
+                    }
+                    return item;
+                }
+            }, new Function<Integer, Integer>() {
+                @Override
+                public Integer apply(Integer item) throws Exception {
+                    siblingStarted.await();
+                    throw new UnsupportedOperationException();
+                }
+            }, executor);
+            fail();
+        } catch (UnsupportedOperationException e) {
+            assertTrue(siblingInterrupted.await(5, TimeUnit.SECONDS)
+                    && !Thread.currentThread().isInterrupted());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void guardForkWithCrashingMapperThenReturnTheFallbackItem() {
+        Pair<Integer, Integer> result = Chain.let(1)
+                .guardFork(sleepThenAdd(0, 1), new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) throws Exception {
+                        throw new IOException();
+                    }
+                }, ChainExecutors.virtual())
+                .onErrorReturnItem(Pair.with(0, 0))
+                .call();
+
+        assertEquals(Pair.with(0, 0), result);
+    }
+
+    @Test
+    public void guardForkWithValidMappersThenReturnTheResults() {
+        Quartet<Integer, Integer, Integer, Integer> result = Chain.let(1)
+                .guardFork(sleepThenAdd(0, 1), sleepThenAdd(0, 2), sleepThenAdd(0, 3),
+                        sleepThenAdd(0, 4), ChainExecutors.virtual())
+                .onErrorReturnItem(Quartet.with(0, 0, 0, 0))
+                .call();
+
+        assertEquals(Quartet.with(2, 3, 4, 5), result);
+    }
+
+    @Test
+    public void guardForkWithoutExecutorThenReturnTheResults() {
+        Triplet<Integer, Integer, Integer> result = Chain.let(1)
+                .guardFork(sleepThenAdd(0, 1), sleepThenAdd(0, 2), sleepThenAdd(0, 3))
+                .onErrorReturnItem(Triplet.with(0, 0, 0))
+                .call();
+
+        assertEquals(Triplet.with(2, 3, 4), result);
+    }
+
+    private static Function<Integer, Integer> awaitThenAdd(final CyclicBarrier barrier,
+                                                           final int value) {
+        return new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) throws Exception {
+                barrier.await(5, TimeUnit.SECONDS);
+                return item + value;
+            }
+        };
+    }
+
+    private static Function<Integer, Integer> sleepThenAdd(final long millis, final int value) {
+        return new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) throws Exception {
+                Thread.sleep(millis);
+                return item + value;
+            }
+        };
+    }
 }
 
 
@@ -0,0 +1,81 @@
+package com.chaining;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkedVectorTest {
+
+    @Test
+    public void plusWithManyItemsThenKeepAllItemsInOrder() {
+        ChunkedVector<Integer> vector = ChunkedVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            vector = vector.plus(i);
+            expected.add(i);
+        }
+        assertEquals(expected, vector);
+    }
+
+    @Test
+    public void plusThenDoNotModifyTheOriginalVector() {
+        ChunkedVector<Integer> original = ChunkedVector.from(Arrays.asList(1, 2, 3));
+        ChunkedVector<Integer> appended = original.plus(4);
+        assertTrue(original.size() == 3 && appended.size() == 4 && appended.get(3) == 4);
+    }
+
+    @Test
+    public void plusOnSharedVectorThenKeepBothBranchesIndependent() {
+        ChunkedVector<Integer> shared = ChunkedVector.empty();
+        for (int i = 0; i < 1056; i++) {
+            shared = shared.plus(i);
+        }
+        ChunkedVector<Integer> left = shared.plus(-1);
+        ChunkedVector<Integer> right = shared.plus(-2);
+        assertTrue(left.get(1056) == -1 && right.get(1056) == -2 && shared.size() == 1056);
+    }
+
+    @Test
+    public void fromWithNullItemsThenSkipNullItems() {
+        ChunkedVector<Integer> vector = ChunkedVector.from(Arrays.asList(1, null, 2));
+        assertEquals(Arrays.asList(1, 2), vector);
+    }
+
+    @Test
+    public void fromWithManyItemsThenMatchPlusResult() {
+        List<Integer> source = new ArrayList<>();
+        ChunkedVector<Integer> appended = ChunkedVector.empty();
+        for (int i = 0; i < 33000; i++) {
+            source.add(i);
+            appended = appended.plus(i);
+        }
+        ChunkedVector<Integer> built = ChunkedVector.from(source);
+        assertTrue(built.equals(appended) && built.plus(-1).get(33000) == -1);
+    }
+
+    @Test
+    public void fromWithSmallCollectionThenAppendAfterThePresizedChunk() {
+        ChunkedVector<Integer> vector = ChunkedVector.from(Arrays.asList(1, 2)).plus(3);
+        assertEquals(Arrays.asList(1, 2, 3), vector);
+    }
+
+    @Test
+    public void fromWithNullThenReturnEmptyVector() {
+        assertTrue(ChunkedVector.from(null).isEmpty());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getWithInvalidIndexThenThrowException() {
+        ChunkedVector.from(Arrays.asList(1, 2)).get(2);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void addThenThrowUnsupportedOperationException() {
+        ChunkedVector.<Integer>empty().add(1);
+    }
+}
@@ -1,9 +1,12 @@
 package com.chaining;
 
+import org.javatuples.Pair;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.reactivex.annotations.NonNull;
 import io.reactivex.functions.BiFunction;
@@ -30,6 +33,19 @@ public class CollectorTest {
         assertTrue(result.items.get(0) && !result.items.get(1) && result.items.get(2));
     }
 
+    @Test
+    public void andThenDoNotModifyTheOriginalCollector() {
+        Collector<Integer> original = new Collector<Integer>(configuration).and(1);
+        Collector<Integer> appended = original.and(2);
+        assertTrue(original.items.size() == 1 && appended.items.size() == 2);
+    }
+
+    @Test
+    public void andWithNullItemThenIgnoreTheItem() {
+        Collector<Integer> result = new Collector<Integer>(configuration).and(1).and(null);
+        assertEquals(1, result.items.size());
+    }
+
     @Test
     public void collectThenReturnAllItemsInListChain() {
         List<Boolean> result = new Collector<Boolean>(configuration)
@@ -191,4 +207,165 @@ public class CollectorTest {
                 });
         assertEquals(Integer.valueOf(2), result[0]);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parallelMapWithManyItemsThenKeepOrderAndRemoveNullResults() {
+        Collector<Integer> collector = new Collector<>(configuration);
+        for (int i = 0; i < 10000; i++) {
+            collector = collector.and(i);
+        }
+
+        List<Integer> result = collector
+                .parallelMap(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        return item % 2 == 0 ? item : null;
+                    }
+                }, new ForkJoinPool(4), 16)
+                .toList()
+                .call();
+
+        boolean ordered = result.size() == 5000;
+        for (int i = 0; ordered && i < result.size(); i++) {
+            ordered = result.get(i) == i * 2;
+        }
+        assertTrue(ordered);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void parallelMapWithCrashingFunctionThenThrowException() {
+        new Collector<Integer>(configuration)
+                .and(1)
+                .and(2)
+                .parallelMap(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        throw new UnsupportedOperationException();
+                    }
+                }, new ForkJoinPool(2), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelMapWithInvalidThresholdThenThrowException() {
+        new Collector<Integer>(configuration)
+                .and(1)
+                .parallelMap(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        return item;
+                    }
+                }, new ForkJoinPool(2), 0);
+    }
+
+    @Test
+    public void parallelForEachThenInvokeOnAllItems() {
+        final AtomicInteger result = new AtomicInteger();
+        Chain.let(Arrays.asList(1, 2, 3, 4, 5))
+                .collect(Integer.class)
+                .parallelForEach(new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer item) {
+                        result.addAndGet(item);
+                    }
+                });
+
+        assertEquals(15, result.get());
+    }
+
+    @Test
+    public void parallelReduceThenCombineResultsInOrder() {
+        String result = Chain.let(Arrays.asList("a", "b", "c", "d", "e"))
+                .collect(String.class)
+                .parallelReduce("", new BiFunction<String, String, String>() {
+                    @Override
+                    public String apply(String result, String item) {
+                        return result + item;
+                    }
+                }, new BiFunction<String, String, String>() {
+                    @Override
+                    public String apply(String left, String right) {
+                        return left + right;
+                    }
+                }, new ForkJoinPool(3), 1)
+                .call();
+
+        assertEquals("abcde", result);
+    }
+
+    @Test
+    public void parallelReduceWithEmptyCollectorThenReturnIdentity() {
+        int result = new Collector<Integer>(configuration)
+                .parallelReduce(7, new BiFunction<Integer, Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer result, Integer item) {
+                        return result + item;
+                    }
+                }, new BiFunction<Integer, Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer left, Integer right) {
+                        return left + right;
+                    }
+                })
+                .call();
+
+        assertEquals(7, result);
+    }
+
+    @Test
+    public void filterInWithCollectionThenKeepAvailableItemsInOrder() {
+        List<Integer> result = Chain.let(5).and(1).and(4).and(2)
+                .filterIn(Arrays.asList(1, 2, 5))
+                .toList()
+                .call();
+
+        assertEquals(Arrays.asList(5, 1, 2), result);
+    }
+
+    @Test
+    public void filterNotInWithCollectionThenRemoveAvailableItems() {
+        List<Integer> result = Chain.let(5).and(1).and(4).and(2)
+                .filterNotIn(Arrays.asList(1, 2, 5))
+                .toList()
+                .call();
+
+        assertEquals(Arrays.asList(4), result);
+    }
+
+    @Test
+    public void filterInWithNullCollectionThenReturnEmptyCollector() {
+        List<Integer> result = Chain.let(1).and(2)
+                .filterIn((List<Integer>) null)
+                .toList()
+                .call();
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void filterNotInWithMembershipThenRemoveAvailableItems() {
+        Membership<Integer> membership = Chain.sortedMembership(Arrays.asList(3, 1));
+        List<Integer> result = Chain.let(1).and(2).and(3)
+                .filterNotIn(membership)
+                .toList()
+                .call();
+
+        assertEquals(Arrays.asList(2), result);
+    }
+
+    @Test
+    public void partitionInWithCollectionThenSplitItemsInOnePass() {
+        Pair<Collector<Integer>, Collector<Integer>> result = Chain.let(1).and(2).and(3).and(4)
+                .partitionIn(Arrays.asList(2, 4, 6));
+
+        assertTrue(result.getValue0().toList().call().equals(Arrays.asList(2, 4))
+                && result.getValue1().toList().call().equals(Arrays.asList(1, 3)));
+    }
+
+    @Test
+    public void partitionInThenDoNotModifyTheOriginalCollector() {
+        Collector<Integer> collector = Chain.let(1).and(2).and(3);
+        collector.partitionIn(Arrays.asList(2));
+
+        assertEquals(Arrays.asList(1, 2, 3), collector.toList().call());
+    }
+}
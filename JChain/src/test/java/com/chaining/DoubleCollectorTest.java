@@ -0,0 +1,55 @@
+package com.chaining;
+
+import com.chaining.functions.DoubleBinaryOperator;
+import com.chaining.functions.DoubleUnaryOperator;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DoubleCollectorTest {
+
+    private final InternalConfiguration configuration = InternalConfiguration
+            .getInstance("DoubleCollectorTest");
+
+    @Test
+    public void fromWithIterableThenCollectAllValues() {
+        DoubleCollector result = DoubleCollector.from(Arrays.asList(1.5, 2, null), configuration);
+        assertArrayEquals(new double[]{1.5, 2.0}, result.toArray(), 0.0);
+    }
+
+    @Test
+    public void mapThenReduceThenReturnReductionResult() {
+        double result = new DoubleCollector(configuration).and(1.0).and(2.0)
+                .map(new DoubleUnaryOperator() {
+                    @Override
+                    public double apply(double value) {
+                        return value / 2;
+                    }
+                })
+                .reduce(0.0, new DoubleBinaryOperator() {
+                    @Override
+                    public double apply(double left, double right) {
+                        return left + right;
+                    }
+                });
+
+        assertEquals(1.5, result, 0.0);
+    }
+
+    @Test
+    public void sumMinAndMaxThenReturnValidResults() {
+        DoubleCollector collector = new DoubleCollector(configuration).and(4.0).and(-2.5);
+        assertTrue(collector.sum() == 1.5 && collector.min() == -2.5 && collector.max() == 4.0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void minWithEmptyCollectorThenThrowException() {
+        new DoubleCollector(configuration).min();
+    }
+}
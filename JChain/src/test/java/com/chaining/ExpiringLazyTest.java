@@ -0,0 +1,261 @@
+package com.chaining;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.functions.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExpiringLazyTest {
+
+    private final FakeTicker ticker = new FakeTicker();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void expiringWithFreshItemThenDoNotInitializeAgain() {
+        Lazy<Integer> lazy = Lazy.expiring(counter(), 10, TimeUnit.SECONDS, ticker);
+
+        int first = lazy.call();
+        ticker.advance(9, TimeUnit.SECONDS);
+        int second = lazy.call();
+
+        assertTrue(first == 1 && second == 1 && loads.get() == 1);
+    }
+
+    @Test
+    public void expiringWithExpiredItemThenInitializeAgain() {
+        Lazy<Integer> lazy = Lazy.expiring(counter(), 10, TimeUnit.SECONDS, ticker);
+
+        lazy.call();
+        ticker.advance(10, TimeUnit.SECONDS);
+
+        assertEquals(2, (int) lazy.call());
+    }
+
+    @Test
+    public void expiringWithNullItemThenInitializeOnceUntilExpired() {
+        Lazy<Object> lazy = Lazy.expiring(new Callable<Object>() {
+            @Override
+            public Object call() {
+                loads.incrementAndGet();
+                return null;
+            }
+        }, 10, TimeUnit.SECONDS, ticker);
+
+        lazy.call();
+        lazy.call();
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void expiringWithCachedFailureThenThrowUntilTheFailureExpires() {
+        final AtomicInteger attempts = new AtomicInteger();
+        Lazy<Integer> lazy = Lazy.expiring(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new UnsupportedOperationException();
+                }
+                return attempts.get();
+            }
+        }, 10, TimeUnit.SECONDS, ticker).cacheFailures(1, TimeUnit.SECONDS);
+
+        RuntimeException first = callIgnoringCrash(lazy);
+        RuntimeException second = callIgnoringCrash(lazy);
+        ticker.advance(1, TimeUnit.SECONDS);
+
+        assertTrue(first != null && first == second && lazy.call() == 2);
+    }
+
+    @Test
+    public void mapOnExpiringLazyThenExpireTheMappedItem() {
+        Lazy<Integer> lazy = Lazy.expiring(counter(), 10, TimeUnit.SECONDS, ticker)
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        return item * 10;
+                    }
+                });
+
+        int first = lazy.call();
+        ticker.advance(10, TimeUnit.SECONDS);
+        int second = lazy.call();
+
+        assertTrue(first == 10 && second == 20);
+    }
+
+    @Test
+    public void refreshingWithFirstCallThenLoadOnTheCallerThread() {
+        ManualExecutor executor = new ManualExecutor();
+        Lazy<Integer> lazy = Lazy.refreshing(counter(), 10, TimeUnit.SECONDS, executor, ticker);
+
+        assertTrue(lazy.call() == 1 && executor.tasks.isEmpty());
+    }
+
+    @Test
+    public void refreshingWithExpiredItemThenReturnTheOldItemWhileRefreshing() {
+        ManualExecutor executor = new ManualExecutor();
+        Lazy<Integer> lazy = Lazy.refreshing(counter(), 10, TimeUnit.SECONDS, executor, ticker);
+
+        lazy.call();
+        ticker.advance(10, TimeUnit.SECONDS);
+        int stale = lazy.call();
+        executor.runAll();
+        int refreshed = lazy.call();
+
+        assertTrue(stale == 1 && refreshed == 2);
+    }
+
+    @Test
+    public void refreshingWithManyCallsWhileRefreshingThenStartOneRefresh() {
+        ManualExecutor executor = new ManualExecutor();
+        Lazy<Integer> lazy = Lazy.refreshing(counter(), 10, TimeUnit.SECONDS, executor, ticker);
+
+        lazy.call();
+        ticker.advance(10, TimeUnit.SECONDS);
+        lazy.call();
+        lazy.call();
+        lazy.call();
+
+        assertEquals(1, executor.tasks.size());
+    }
+
+    @Test
+    public void refreshingWithCrashingRefreshThenKeepTheOldItemAndRetryAfterTheTimeToLive() {
+        ManualExecutor executor = new ManualExecutor();
+        Lazy<Integer> lazy = Lazy.refreshing(crashOnSecondCall(), 10, TimeUnit.SECONDS,
+                executor, ticker);
+
+        lazy.call();
+        ticker.advance(10, TimeUnit.SECONDS);
+        lazy.call();
+        executor.runAll();
+        int afterCrash = lazy.call();
+        boolean retriedBeforeTimeToLive = !executor.tasks.isEmpty();
+        ticker.advance(10, TimeUnit.SECONDS);
+        lazy.call();
+        executor.runAll();
+
+        assertTrue(afterCrash == 1 && !retriedBeforeTimeToLive && lazy.call() == 3);
+    }
+
+    @Test
+    public void refreshingWithCachedFailuresAndCrashingRefreshThenRetryAfterTheFailureDuration() {
+        ManualExecutor executor = new ManualExecutor();
+        Lazy<Integer> lazy = Lazy.refreshing(crashOnSecondCall(), 10, TimeUnit.SECONDS,
+                executor, ticker).cacheFailures(1, TimeUnit.SECONDS);
+
+        lazy.call();
+        ticker.advance(10, TimeUnit.SECONDS);
+        lazy.call();
+        executor.runAll();
+        ticker.advance(500, TimeUnit.MILLISECONDS);
+        lazy.call();
+        boolean retriedBeforeFailureDuration = !executor.tasks.isEmpty();
+        ticker.advance(500, TimeUnit.MILLISECONDS);
+        lazy.call();
+        executor.runAll();
+
+        assertTrue(!retriedBeforeFailureDuration && lazy.call() == 3);
+    }
+
+    @Test
+    public void refreshingWithRejectingExecutorThenReturnTheOldItem() {
+        Lazy<Integer> lazy = Lazy.refreshing(counter(), 10, TimeUnit.SECONDS, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        }, ticker);
+
+        lazy.call();
+        ticker.advance(10, TimeUnit.SECONDS);
+
+        assertTrue(lazy.call() == 1 && lazy.call() == 1);
+    }
+
+    @Test
+    public void prefetchThenLoadOnTheExecutorOnly() {
+        ManualExecutor executor = new ManualExecutor();
+        Lazy<Integer> lazy = Lazy.expiring(counter(), 10, TimeUnit.SECONDS, ticker);
+
+        lazy.prefetch(executor);
+        executor.runAll();
+        lazy.prefetch(executor);
+
+        assertTrue(executor.tasks.isEmpty() && lazy.call() == 1 && loads.get() == 1);
+    }
+
+    private Callable<Integer> counter() {
+        return new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return loads.incrementAndGet();
+            }
+        };
+    }
+
+    private static Callable<Integer> crashOnSecondCall() {
+        final AtomicInteger attempts = new AtomicInteger();
+        return new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                if (attempts.incrementAndGet() == 2) {
+                    throw new UnsupportedOperationException();
+                }
+                return attempts.get();
+            }
+        };
+    }
+
+    private static RuntimeException callIgnoringCrash(Lazy<?> lazy) {
+        try {
+            lazy.call();
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static class FakeTicker extends Ticker {
+
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        void advance(long duration, TimeUnit unit) {
+            nanos += unit.toNanos(duration);
+        }
+    }
+
+    private static class ManualExecutor implements Executor {
+
+        final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            List<Runnable> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            for (Runnable task : pending) {
+                task.run();
+            }
+        }
+    }
+}
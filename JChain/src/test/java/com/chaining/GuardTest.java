@@ -3,6 +3,8 @@ package com.chaining;
 import org.junit.Test;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import io.reactivex.annotations.NonNull;
 import io.reactivex.functions.Consumer;
@@ -430,4 +432,35 @@ public class GuardTest
 
         new ProxyTester<>(guard, 1).run();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void asyncWithCrashingCallableThenHoldTheErrorInTheGuard() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            int result = Guard.async(new Callable<Integer>()
+            {
+                @Override
+                public Integer call() throws Exception {
+                    throw new UnsupportedOperationException();
+                }
+            }, executor).join().onErrorReturnItem(-1).call();
+
+            assertEquals(-1, result);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void asyncWithValidCallableThenHoldTheItemInTheGuard() {
+        int result = Guard.async(new Callable<Integer>()
+        {
+            @Override
+            public Integer call() throws Exception {
+                return 1;
+            }
+        }, ChainExecutors.virtual()).join().onErrorReturnItem(-1).call();
+
+        assertEquals(1, result);
+    }
+}
@@ -4,8 +4,11 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import io.reactivex.functions.BiPredicate;
 
-import static com.chaining.InternalConfiguration.getInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -14,27 +17,60 @@ public class InOperatorTest {
     @Test
     public void testWithValidCollectionAndValidItemThenReturnTrue() {
         Collection<Integer> collection = Arrays.asList(1, 2, 3, 4);
-        InternalConfiguration config = getInstance("testWithValidCollectionAndValidItemThenReturnTrue");
-        assertTrue(new InOperator<>(collection, new IsEqualComparator<Integer>(), config).test(2));
+        assertTrue(new InOperator<>(collection, new IsEqualComparator<Integer>()).test(2));
     }
 
     @Test
     public void testWithValidCollectionAndInvalidItemThenReturnFalse() {
         Collection<Integer> collection = Arrays.asList(1, 2, 3, 4);
-        InternalConfiguration config = getInstance("testWithValidCollectionAndInvalidItemThenReturnFalse");
-        assertFalse(new InOperator<>(collection, new IsEqualComparator<Integer>(), config).test(5));
+        assertFalse(new InOperator<>(collection, new IsEqualComparator<Integer>()).test(5));
     }
 
     @Test
     public void testWithValidCollectionAndNullItemThenReturnFalse() {
         Collection<Integer> collection = Arrays.asList(1, 2, 3, 4);
-        InternalConfiguration config = getInstance("testWithValidCollectionAndNullItemThenReturnFalse");
-        assertFalse(new InOperator<>(collection, new IsEqualComparator<Integer>(), config).test(null));
+        assertFalse(new InOperator<>(collection, new IsEqualComparator<Integer>()).test(null));
     }
 
     @Test
     public void testWithNullCollectionAndValidItemThenReturnFalse() {
-        InternalConfiguration config = getInstance("testWithNullCollectionAndValidItemThenReturnFalse");
-        assertFalse(new InOperator<>(null, new IsEqualComparator<Integer>(), config).test(2));
+        assertFalse(new InOperator<>(null, new IsEqualComparator<Integer>()).test(2));
+    }
+
+    @Test
+    public void testWithCollectionHoldingNullAndNullItemThenReturnFalse() {
+        Collection<Integer> collection = Arrays.asList(1, null);
+        assertFalse(new InOperator<>(collection, new IsEqualComparator<Integer>()).test(null));
+    }
+
+    @Test
+    public void testWithSetThenUseTheSetWithoutCopying() {
+        Set<Integer> set = new HashSet<>(Arrays.asList(1, 2));
+        InOperator<Integer> operator = new InOperator<>(set, new IsEqualComparator<Integer>());
+        set.add(3);
+        assertTrue(operator.test(3));
+    }
+
+    @Test
+    public void testWithCustomComparatorThenUseTheComparator() {
+        Collection<String> collection = Arrays.asList("A", null, "B");
+        BiPredicate<String, String> ignoreCase = new BiPredicate<String, String>() {
+            @Override
+            public boolean test(String item, String collectionItem) {
+                return item.equalsIgnoreCase(collectionItem);
+            }
+        };
+        assertTrue(new InOperator<>(collection, ignoreCase).test("b"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testWithCrashingComparatorThenThrowException() {
+        BiPredicate<Integer, Integer> crashing = new BiPredicate<Integer, Integer>() {
+            @Override
+            public boolean test(Integer item, Integer collectionItem) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        new InOperator<>(Arrays.asList(1), crashing).test(1);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,159 @@
+package com.chaining;
+
+import com.chaining.functions.IntBinaryOperator;
+import com.chaining.functions.IntConsumer;
+import com.chaining.functions.IntUnaryOperator;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class IntCollectorTest {
+
+    private final InternalConfiguration configuration = InternalConfiguration
+            .getInstance("IntCollectorTest");
+
+    @Test
+    public void andWithMultipleItemsThenAppendAllItems() {
+        IntCollector result = new IntCollector(configuration).and(1).and(2).and(3);
+        assertArrayEquals(new int[]{1, 2, 3}, result.toArray());
+    }
+
+    @Test
+    public void andThenDoNotModifyTheOriginalCollector() {
+        IntCollector original = new IntCollector(configuration).and(1);
+        IntCollector appended = original.and(2);
+        assertTrue(original.size() == 1 && appended.size() == 2);
+    }
+
+    @Test
+    public void andOnSameCollectorTwiceThenKeepBothResultsIndependent() {
+        IntCollector original = new IntCollector(configuration).and(1).and(2);
+        IntCollector left = original.and(3);
+        IntCollector right = original.and(4);
+        assertTrue(left.toArray()[2] == 3 && right.toArray()[2] == 4);
+    }
+
+    @Test
+    public void fromWithIterableThenSkipNullItems() {
+        IntCollector result = IntCollector.from(Arrays.asList(1, null, 3), configuration);
+        assertArrayEquals(new int[]{1, 3}, result.toArray());
+    }
+
+    @Test
+    public void fromWithArrayThenCopyTheArray() {
+        int[] source = {1, 2};
+        IntCollector result = IntCollector.from(source, configuration);
+        source[0] = 5;
+        assertArrayEquals(new int[]{1, 2}, result.toArray());
+    }
+
+    @Test
+    public void fromWithNullThenReturnEmptyCollector() {
+        assertEquals(0, IntCollector.from(null, configuration).size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void fromWithNonNumericItemThenThrowException() {
+        IntCollector.from("1", configuration);
+    }
+
+    @Test
+    public void mapMultipleItemsThenInvokeOnAllItems() {
+        int[] result = new IntCollector(configuration).and(1).and(2)
+                .map(new IntUnaryOperator() {
+                    @Override
+                    public int apply(int value) {
+                        return value * 10;
+                    }
+                })
+                .toArray();
+
+        assertArrayEquals(new int[]{10, 20}, result);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void mapWithCrashingFunctionThenThrowException() {
+        new IntCollector(configuration).and(1)
+                .map(new IntUnaryOperator() {
+                    @Override
+                    public int apply(int value) {
+                        throw new UnsupportedOperationException();
+                    }
+                });
+    }
+
+    @Test
+    public void forEachWithValidConsumerThenIterateInOrder() {
+        final int[] result = {0};
+        new IntCollector(configuration).and(1).and(2)
+                .forEach(new IntConsumer() {
+                    @Override
+                    public void accept(int value) {
+                        result[0] = result[0] * 10 + value;
+                    }
+                });
+
+        assertEquals(12, result[0]);
+    }
+
+    @Test
+    public void reduceWithIdentityThenReturnReductionResult() {
+        int result = new IntCollector(configuration).and(2).and(3)
+                .reduce(1, new IntBinaryOperator() {
+                    @Override
+                    public int apply(int left, int right) {
+                        return left * right;
+                    }
+                });
+
+        assertEquals(6, result);
+    }
+
+    @Test
+    public void reduceWithEmptyCollectorThenReturnChainWithNull() {
+        Integer result = new IntCollector(configuration)
+                .reduce(new IntBinaryOperator() {
+                    @Override
+                    public int apply(int left, int right) {
+                        return left + right;
+                    }
+                })
+                .call();
+
+        assertNull(result);
+    }
+
+    @Test
+    public void sumThenReturnSumWithoutOverflow() {
+        long result = new IntCollector(configuration)
+                .and(Integer.MAX_VALUE)
+                .and(Integer.MAX_VALUE)
+                .sum();
+
+        assertEquals(2L * Integer.MAX_VALUE, result);
+    }
+
+    @Test
+    public void minAndMaxThenReturnMinimumAndMaximumValues() {
+        IntCollector collector = new IntCollector(configuration).and(3).and(-1).and(7);
+        assertTrue(collector.min() == -1 && collector.max() == 7);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void minWithEmptyCollectorThenThrowException() {
+        new IntCollector(configuration).min();
+    }
+
+    @Test
+    public void boxedThenReturnCollectorWithSameItems() {
+        Collector<Integer> result = new IntCollector(configuration).and(1).and(2).boxed();
+        assertEquals(Arrays.asList(1, 2), result.items);
+    }
+}
@@ -0,0 +1,74 @@
+package com.chaining;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class InternalConfigurationTest {
+
+    @Test
+    public void getInstanceWithNullKeyThenReturnTheSameInstance() {
+        assertSame(InternalConfiguration.getInstance(null), InternalConfiguration.getInstance(null));
+    }
+
+    @Test
+    public void getInstanceWithSameKeyThenReturnTheSameInstance() {
+        InternalConfiguration first = InternalConfiguration.getInstance("sameKey");
+        assertSame(first, InternalConfiguration.getInstance("sameKey"));
+    }
+
+    @Test
+    public void getInstanceWithDifferentKeysThenReturnDifferentInstances() {
+        assertNotSame(InternalConfiguration.getInstance("firstKey"),
+                InternalConfiguration.getInstance("secondKey"));
+    }
+
+    @Test
+    public void getInstanceFromMultipleThreadsThenReturnTheSameInstance() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<InternalConfiguration>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 32; i++) {
+                results.add(executor.submit(new Callable<InternalConfiguration>() {
+                    @Override
+                    public InternalConfiguration call() throws Exception {
+                        start.await();
+                        return InternalConfiguration.getInstance("multipleThreadsKey");
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<InternalConfiguration> result : results) {
+                assertSame(InternalConfiguration.getInstance("multipleThreadsKey"), result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void setDebuggingOnOneThreadThenVisibleOnOtherThreads() throws Exception {
+        final InternalConfiguration configuration =
+                InternalConfiguration.getInstance("setDebuggingOnOneThread");
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                configuration.setDebugging(true);
+            }
+        });
+        writer.start();
+        writer.join();
+        assertTrue(configuration.isDebugging());
+    }
+}
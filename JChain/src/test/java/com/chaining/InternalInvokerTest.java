@@ -0,0 +1,87 @@
+package com.chaining;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.BiPredicate;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InternalInvokerTest {
+
+    @Test
+    public void invokeFunctionThenReturnTheFunctionResult() {
+        int result = InternalInvoker.invoke(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) {
+                return item + 1;
+            }
+        }, 1);
+
+        assertEquals(2, result);
+    }
+
+    @Test
+    public void invokeBiFunctionThenReturnTheFunctionResult() {
+        int result = InternalInvoker.invoke(new BiFunction<Integer, Integer, Integer>() {
+            @Override
+            public Integer apply(Integer first, Integer second) {
+                return first + second;
+            }
+        }, 1, 2);
+
+        assertEquals(3, result);
+    }
+
+    @Test
+    public void invokePredicateAndBiPredicateThenReturnThePredicateResult() {
+        boolean result = InternalInvoker.invoke(new Predicate<Integer>() {
+            @Override
+            public boolean test(Integer item) {
+                return item > 0;
+            }
+        }, 1);
+        boolean biResult = InternalInvoker.invoke(new BiPredicate<Integer, Integer>() {
+            @Override
+            public boolean test(Integer first, Integer second) {
+                return first.equals(second);
+            }
+        }, 1, 2);
+
+        assertTrue(result && !biResult);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void invokeWithCheckedExceptionThenThrowRuntimeException() {
+        InternalInvoker.invoke(new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                throw new IOException();
+            }
+        });
+    }
+
+    @Test
+    public void invokeWithRuntimeExceptionThenThrowTheSameException() {
+        final UnsupportedOperationException error = new UnsupportedOperationException();
+        try {
+            InternalInvoker.invoke(new Function<Object, Object>() {
+                @Override
+                public Object apply(Object item) {
+                    throw error;
+                }
+            }, 1);
+            fail();
+        } catch (RuntimeException e) {
+            assertSame(error, e);
+        }
+    }
+}
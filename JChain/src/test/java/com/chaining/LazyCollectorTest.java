@@ -0,0 +1,194 @@
+package com.chaining;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LazyCollectorTest {
+
+    private final InternalConfiguration configuration = InternalConfiguration
+            .getInstance("LazyCollectorTest");
+
+    @Test
+    public void mapFilterAndPeekThenDoNotInvokeBeforeTerminalOperation() {
+        final List<Integer> invocations = new ArrayList<>();
+        new Collector<Integer>(configuration)
+                .and(1)
+                .and(2)
+                .lazy()
+                .peek(new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer item) {
+                        invocations.add(item);
+                    }
+                })
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        invocations.add(item);
+                        return item;
+                    }
+                });
+
+        assertTrue(invocations.isEmpty());
+    }
+
+    @Test
+    public void toListThenRunAllStagesForEveryItemBeforeTheNextItem() {
+        final List<String> invocations = new ArrayList<>();
+        List<Integer> result = new Collector<Integer>(configuration)
+                .and(1)
+                .and(2)
+                .lazy()
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        invocations.add("map" + item);
+                        return item * 10;
+                    }
+                })
+                .peek(new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer item) {
+                        invocations.add("peek" + item);
+                    }
+                })
+                .toList()
+                .call();
+
+        assertTrue(result.equals(Arrays.asList(10, 20))
+                && invocations.equals(Arrays.asList("map1", "peek10", "map2", "peek20")));
+    }
+
+    @Test
+    public void mapWithNullResultThenRemoveTheItem() {
+        List<Integer> result = new Collector<Integer>(configuration)
+                .and(1)
+                .and(2)
+                .lazy()
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer item) {
+                        return item == 1 ? null : item;
+                    }
+                })
+                .toList()
+                .call();
+
+        assertEquals(Arrays.asList(2), result);
+    }
+
+    @Test
+    public void filterThenReduceThenReturnReductionOfPassingItems() {
+        int result = Chain.let(Arrays.asList(1, 2, 3, 4))
+                .collect(Integer.class)
+                .lazy()
+                .filter(new Predicate<Integer>() {
+                    @Override
+                    public boolean test(Integer item) {
+                        return item % 2 == 0;
+                    }
+                })
+                .reduce(new BiFunction<Integer, Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer left, Integer right) {
+                        return left + right;
+                    }
+                })
+                .call();
+
+        assertEquals(6, result);
+    }
+
+    @Test
+    public void reduceWithNoItemsThenReturnChainWithNull() {
+        Integer result = new Collector<Integer>(configuration)
+                .lazy()
+                .reduce(new BiFunction<Integer, Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer left, Integer right) {
+                        return left + right;
+                    }
+                })
+                .call();
+
+        assertNull(result);
+    }
+
+    @Test
+    public void reduceWithReducerReturningNullThenPassNullToTheReducer() {
+        BiFunction<String, String, String> reducer = new BiFunction<String, String, String>() {
+            @Override
+            public String apply(String left, String right) {
+                return right.equals("2") ? null : left + right;
+            }
+        };
+        Collector<String> collector = new Collector<String>(configuration)
+                .and("1")
+                .and("2")
+                .and("3");
+
+        String lazyResult = collector.lazy().reduce(reducer).call();
+        String eagerResult = collector.reduce(reducer).call();
+
+        assertTrue(lazyResult.equals("null3") && lazyResult.equals(eagerResult));
+    }
+
+    @Test
+    public void forEachThenIterateInOrder() {
+        final List<Integer> result = new ArrayList<>();
+        new Collector<Integer>(configuration)
+                .and(1)
+                .and(2)
+                .lazy()
+                .forEach(new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer item) {
+                        result.add(item);
+                    }
+                });
+
+        assertEquals(Arrays.asList(1, 2), result);
+    }
+
+    @Test
+    public void flatMapThenPassResultingItems() {
+        int result = new Collector<Integer>(configuration)
+                .and(1)
+                .and(2)
+                .lazy()
+                .flatMap(new Function<List<Integer>, Integer>() {
+                    @Override
+                    public Integer apply(List<Integer> items) {
+                        return items.size();
+                    }
+                });
+
+        assertEquals(2, result);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void toCollectorWithCrashingStageThenThrowException() {
+        new Collector<Integer>(configuration)
+                .and(1)
+                .lazy()
+                .filter(new Predicate<Integer>() {
+                    @Override
+                    public boolean test(Integer item) {
+                        throw new UnsupportedOperationException();
+                    }
+                })
+                .toCollector();
+    }
+}
@@ -0,0 +1,144 @@
+package com.chaining;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LazyGraphTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final List<String> initialized =
+            Collections.synchronizedList(new ArrayList<String>());
+
+    @After
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void initializeThenInitializeDependenciesFirst() {
+        Lazy<String> a = named("a");
+        Lazy<String> b = named("b", a);
+        Lazy<String> c = named("c", b);
+
+        new LazyGraph().add(c, b).add(b, a).initialize(pool);
+
+        assertEquals(Arrays.asList("a", "b", "c"), initialized);
+    }
+
+    @Test
+    public void initializeWithIndependentBranchesThenInitializeThemConcurrently() {
+        final CyclicBarrier bothBranches = new CyclicBarrier(2);
+        Lazy<String> root = named("root");
+        Lazy<String> left = awaiting("left", bothBranches, root);
+        Lazy<String> right = awaiting("right", bothBranches, root);
+        Lazy<String> join = named("join", left, right);
+
+        new LazyGraph()
+                .add(join, left, right)
+                .add(left, root)
+                .add(right, root)
+                .initialize(pool);
+
+        assertTrue(initialized.indexOf("root") == 0
+                && initialized.indexOf("join") == 3
+                && initialized.size() == 4);
+    }
+
+    @Test
+    public void addWithCycleThenThrowIllegalArgumentException() {
+        Lazy<String> a = named("a");
+        Lazy<String> b = named("b");
+        Lazy<String> c = named("c");
+        LazyGraph graph = new LazyGraph().add(a, b).add(b, c);
+
+        try {
+            graph.add(c, a);
+            fail();
+        } catch (IllegalArgumentException e) {
+            graph.initialize(pool);
+            assertEquals(Arrays.asList("c", "b", "a"), initialized);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addWithSelfDependencyThenThrowIllegalArgumentException() {
+        Lazy<String> a = named("a");
+        new LazyGraph().add(a, a);
+    }
+
+    @Test
+    public void initializeWithCrashingInitializerThenThrowAndSkipTheDependents() {
+        Lazy<String> a = Lazy.defer(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                throw new UnsupportedOperationException();
+            }
+        });
+        Lazy<String> b = named("b", a);
+        Lazy<String> c = named("c");
+
+        try {
+            new LazyGraph().add(b, a).add(c).initialize(pool);
+            fail();
+        } catch (RuntimeException e) {
+            assertTrue(!initialized.contains("b"));
+        }
+    }
+
+    @Test
+    public void callThenInitializeOnlyTheDependencies() {
+        Lazy<String> a = named("a");
+        Lazy<String> b = named("b", a);
+        Lazy<String> unrelated = named("unrelated");
+
+        String result = new LazyGraph().add(b, a).add(unrelated).call(b, pool);
+
+        assertTrue(result.equals("b") && initialized.equals(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    public void initializeWithEmptyGraphThenReturn() {
+        new LazyGraph().initialize(pool);
+        assertTrue(initialized.isEmpty());
+    }
+
+    private Lazy<String> named(final String name, final Lazy<?>... dependencies) {
+        return Lazy.defer(new Callable<String>() {
+            @Override
+            public String call() {
+                for (Lazy<?> dependency : dependencies) {
+                    dependency.call();
+                }
+                initialized.add(name);
+                return name;
+            }
+        });
+    }
+
+    private Lazy<String> awaiting(final String name,
+                                  final CyclicBarrier barrier,
+                                  final Lazy<?> dependency) {
+        return Lazy.defer(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                dependency.call();
+                barrier.await(5, TimeUnit.SECONDS);
+                initialized.add(name);
+                return name;
+            }
+        });
+    }
+}
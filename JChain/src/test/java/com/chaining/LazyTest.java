@@ -2,7 +2,19 @@ package com.chaining;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.reactivex.functions.Consumer;
 import io.reactivex.functions.Function;
@@ -245,4 +257,419 @@ public class LazyTest {
                 && itemThreeInitialized[0]
                 && result[0] == 3);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void callAsyncWithBlockingCallableThenInitializeOnTheExecutor() {
+        final Thread caller = Thread.currentThread();
+        Lazy<Thread> lazyThread = Lazy.defer(new Callable<Thread>() {
+            @Override
+            public Thread call() throws Exception {
+                Thread.sleep(10);
+                return Thread.currentThread();
+            }
+        });
+
+        Thread initializer = lazyThread.callAsync(ChainExecutors.virtual()).join();
+
+        assertTrue(initializer != caller && lazyThread.call() == initializer);
+    }
+
+    @Test
+    public void callFromManyThreadsWithSynchronizedModeThenInitializeOnce() throws Exception {
+        final AtomicInteger initializations = new AtomicInteger();
+        Lazy<Object> lazy = Lazy.defer(countingInitializer(initializations),
+                LazyMode.SYNCHRONIZED);
+
+        Set<Object> items = callConcurrently(lazy, 8);
+
+        assertTrue(initializations.get() == 1 && items.size() == 1);
+    }
+
+    @Test
+    public void callFromManyThreadsWithPublicationModeThenReturnTheSameItem() throws Exception {
+        final AtomicInteger initializations = new AtomicInteger();
+        Lazy<Object> lazy = Lazy.defer(countingInitializer(initializations),
+                LazyMode.PUBLICATION);
+
+        Set<Object> items = callConcurrently(lazy, 8);
+
+        assertTrue(initializations.get() >= 1 && items.size() == 1 && items.contains(lazy.item));
+    }
+
+    @Test
+    public void callTwiceWithNoneModeThenInitializeOnce() throws Exception {
+        final AtomicInteger initializations = new AtomicInteger();
+        Lazy<Object> lazy = Lazy.defer(countingInitializer(initializations), LazyMode.NONE);
+
+        Object first = lazy.call();
+        Object second = lazy.call();
+
+        assertTrue(initializations.get() == 1 && first == second);
+    }
+
+    @Test
+    public void deferWithCallableOnlyThenUseSynchronizedMode() {
+        Lazy<Integer> lazy = Lazy.defer(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return 1;
+            }
+        });
+
+        assertEquals(LazyMode.SYNCHRONIZED, lazy.mode);
+    }
+
+    @Test
+    public void mapAndApplyWithPublicationModeThenKeepTheMode() {
+        Lazy<Integer> lazy = Lazy.defer(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return 1;
+            }
+        }, LazyMode.PUBLICATION);
+
+        Lazy<Integer> mapped = lazy.map(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) {
+                return item + 1;
+            }
+        });
+        Lazy<Integer> applied = lazy.apply(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer item) {
+            }
+        });
+
+        assertTrue(mapped.mode == LazyMode.PUBLICATION && applied.mode == LazyMode.PUBLICATION);
+    }
+
+    @Test
+    public void callTwiceWithNullInitializerThenInitializeOnce() {
+        final AtomicInteger initializations = new AtomicInteger();
+        Lazy<Object> lazy = Lazy.defer(new Callable<Object>() {
+            @Override
+            public Object call() {
+                initializations.incrementAndGet();
+                return null;
+            }
+        });
+
+        Object first = lazy.call();
+        Object second = lazy.call();
+
+        assertTrue(first == null && second == null && initializations.get() == 1);
+    }
+
+    @Test
+    public void callTwiceWithNullInitializerInEveryModeThenInitializeOnce() {
+        for (LazyMode mode : LazyMode.values()) {
+            final AtomicInteger initializations = new AtomicInteger();
+            Lazy<Object> lazy = Lazy.defer(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    initializations.incrementAndGet();
+                    return null;
+                }
+            }, mode);
+
+            lazy.call();
+            lazy.call();
+
+            assertEquals(mode.name(), 1, initializations.get());
+        }
+    }
+
+    @Test
+    public void callTwiceWithCrashingInitializerThenInvokeTheInitializerTwice() {
+        AtomicInteger initializations = new AtomicInteger();
+        Lazy<Object> lazy = Lazy.defer(crashingInitializer(initializations));
+
+        callIgnoringCrash(lazy);
+        callIgnoringCrash(lazy);
+
+        assertEquals(2, initializations.get());
+    }
+
+    @Test
+    public void callTwiceWithCachedFailureThenThrowTheSameExceptionWithoutInitializing() {
+        AtomicInteger initializations = new AtomicInteger();
+        Lazy<Object> lazy = Lazy.defer(crashingInitializer(initializations))
+                .cacheFailures(1, TimeUnit.MINUTES);
+
+        RuntimeException first = callIgnoringCrash(lazy);
+        RuntimeException second = callIgnoringCrash(lazy);
+
+        assertTrue(first != null && first == second && initializations.get() == 1);
+    }
+
+    @Test
+    public void callAfterCachedFailureExpiredThenInvokeTheInitializerAgain() {
+        AtomicInteger initializations = new AtomicInteger();
+        FakeTicker ticker = new FakeTicker();
+        Lazy<Object> lazy = Lazy.defer(crashingInitializer(initializations))
+                .cacheFailures(10, TimeUnit.MILLISECONDS, ticker);
+
+        callIgnoringCrash(lazy);
+        ticker.advance(9, TimeUnit.MILLISECONDS);
+        callIgnoringCrash(lazy);
+        int beforeExpiry = initializations.get();
+        ticker.advance(1, TimeUnit.MILLISECONDS);
+        callIgnoringCrash(lazy);
+
+        assertTrue(beforeExpiry == 1 && initializations.get() == 2);
+    }
+
+    @Test
+    public void mapOnLazyWithCachedFailuresThenUseTheSameTicker() {
+        AtomicInteger initializations = new AtomicInteger();
+        FakeTicker ticker = new FakeTicker();
+        Lazy<Object> lazy = Lazy.defer(crashingInitializer(initializations))
+                .cacheFailures(10, TimeUnit.MILLISECONDS, ticker)
+                .map(new Function<Object, Object>() {
+                    @Override
+                    public Object apply(Object item) {
+                        return item;
+                    }
+                })
+                .cacheFailures(10, TimeUnit.MILLISECONDS);
+
+        callIgnoringCrash(lazy);
+        ticker.advance(10, TimeUnit.MILLISECONDS);
+        callIgnoringCrash(lazy);
+
+        assertEquals(2, initializations.get());
+    }
+
+    @Test
+    public void cacheFailuresThenKeepTheModeAndTheInitializer() {
+        Lazy<Object> lazy = Lazy.defer(countingInitializer(new AtomicInteger()), LazyMode.NONE);
+        Lazy<Object> cached = lazy.cacheFailures(1, TimeUnit.SECONDS);
+
+        assertTrue(cached.mode == LazyMode.NONE && cached.delayedAction == lazy.delayedAction);
+    }
+
+    private static Callable<Object> crashingInitializer(final AtomicInteger initializations) {
+        return new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                initializations.incrementAndGet();
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static RuntimeException callIgnoringCrash(Lazy<?> lazy) {
+        try {
+            lazy.call();
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Test
+    public void callWhilePrefetchingInEveryModeThenJoinThePrefetch() throws Exception {
+        for (LazyMode mode : LazyMode.values()) {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                final CountDownLatch started = new CountDownLatch(1);
+                final CountDownLatch release = new CountDownLatch(1);
+                final AtomicInteger initializations = new AtomicInteger();
+                final Lazy<Object> lazy = Lazy.defer(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        initializations.incrementAndGet();
+                        started.countDown();
+                        release.await();
+                        return new Object();
+                    }
+                }, mode);
+
+                assertTrue(lazy.prefetch(executor) == lazy);
+                started.await();
+                Future<Object> caller = executor.submit(new Callable<Object>() {
+                    @Override
+                    public Object call() {
+                        return lazy.call();
+                    }
+                });
+                Thread.sleep(20);
+                release.countDown();
+
+                assertTrue(mode.name(), caller.get(5, TimeUnit.SECONDS) == lazy.call()
+                        && initializations.get() == 1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    public void prefetchWhileCallIsInitializingThenDoNotInitializeAgain() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final AtomicInteger initializations = new AtomicInteger();
+            final Lazy<Object> lazy = Lazy.defer(new Callable<Object>() {
+                @Override
+                public Object call() throws Exception {
+                    initializations.incrementAndGet();
+                    started.countDown();
+                    release.await();
+                    return new Object();
+                }
+            });
+
+            Future<Object> caller = executor.submit(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    return lazy.call();
+                }
+            });
+            started.await();
+            final List<Runnable> prefetchTasks = new ArrayList<>();
+            lazy.prefetch(new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    prefetchTasks.add(command);
+                }
+            });
+            Future<Object> waiter = executor.submit(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    return lazy.call();
+                }
+            });
+            release.countDown();
+            Object item = caller.get(5, TimeUnit.SECONDS);
+
+            assertTrue(prefetchTasks.isEmpty()
+                    && waiter.get(5, TimeUnit.SECONDS) == item
+                    && lazy.call() == item
+                    && initializations.get() == 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void prefetchWithInitializedItemThenDoNotInitializeAgain() {
+        AtomicInteger initializations = new AtomicInteger();
+        Lazy<Object> lazy = Lazy.defer(countingInitializer(initializations));
+        lazy.call();
+
+        lazy.prefetch(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        });
+
+        assertEquals(1, initializations.get());
+    }
+
+    @Test
+    public void prefetchWithRejectingExecutorThenInitializeOnCall() {
+        AtomicInteger initializations = new AtomicInteger();
+        Lazy<Object> lazy = Lazy.defer(countingInitializer(initializations));
+
+        lazy.prefetch(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        });
+
+        assertTrue(lazy.item == null && lazy.call() != null && initializations.get() == 1);
+    }
+
+    @Test
+    public void prefetchWithCrashingInitializerThenThrowOnCallAndInitializeAgain() {
+        AtomicInteger initializations = new AtomicInteger();
+        Lazy<Object> lazy = Lazy.defer(crashingInitializer(initializations));
+
+        lazy.prefetch(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        });
+        RuntimeException error = callIgnoringCrash(lazy);
+
+        assertTrue(error != null && initializations.get() == 2);
+    }
+
+    @Test
+    public void prefetchAllThenInitializeAllTheLazies() throws Exception {
+        AtomicInteger initializations = new AtomicInteger();
+        List<Lazy<Object>> lazies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            lazies.add(Lazy.defer(countingInitializer(initializations)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            Lazy.prefetchAll(lazies, executor);
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Lazy<Object> lazy : lazies) {
+            lazy.call();
+        }
+        assertEquals(5, initializations.get());
+    }
+
+    private static Callable<Object> countingInitializer(final AtomicInteger initializations) {
+        return new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                initializations.incrementAndGet();
+                Thread.sleep(50);
+                return new Object();
+            }
+        };
+    }
+
+    private static Set<Object> callConcurrently(final Lazy<Object> lazy, int threads)
+            throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        start.await();
+                        return lazy.call();
+                    }
+                }));
+            }
+            start.countDown();
+            Set<Object> items = new HashSet<>();
+            for (Future<Object> future : futures) {
+                items.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return items;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class FakeTicker extends Ticker {
+
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        void advance(long duration, TimeUnit unit) {
+            nanos += unit.toNanos(duration);
+        }
+    }
+}
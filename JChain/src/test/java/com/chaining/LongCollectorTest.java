@@ -0,0 +1,55 @@
+package com.chaining;
+
+import com.chaining.functions.LongBinaryOperator;
+import com.chaining.functions.LongUnaryOperator;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LongCollectorTest {
+
+    private final InternalConfiguration configuration = InternalConfiguration
+            .getInstance("LongCollectorTest");
+
+    @Test
+    public void fromWithIterableThenCollectAllValues() {
+        LongCollector result = LongCollector.from(Arrays.asList(1L, 2, null), configuration);
+        assertArrayEquals(new long[]{1L, 2L}, result.toArray());
+    }
+
+    @Test
+    public void mapThenReduceThenReturnReductionResult() {
+        long result = new LongCollector(configuration).and(1L).and(2L)
+                .map(new LongUnaryOperator() {
+                    @Override
+                    public long apply(long value) {
+                        return value * 2;
+                    }
+                })
+                .reduce(0L, new LongBinaryOperator() {
+                    @Override
+                    public long apply(long left, long right) {
+                        return left + right;
+                    }
+                });
+
+        assertEquals(6L, result);
+    }
+
+    @Test
+    public void sumMinAndMaxThenReturnValidResults() {
+        LongCollector collector = new LongCollector(configuration).and(4L).and(-2L);
+        assertTrue(collector.sum() == 2L && collector.min() == -2L && collector.max() == 4L);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void maxWithEmptyCollectorThenThrowException() {
+        new LongCollector(configuration).max();
+    }
+}
@@ -0,0 +1,99 @@
+package com.chaining;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.functions.BiPredicate;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MembershipTest {
+
+    @Test
+    public void containsWithEqualityAndValidItemThenReturnTrue() {
+        assertTrue(Chain.membership(Arrays.asList(1, 2, 3)).contains(2));
+    }
+
+    @Test
+    public void containsWithEqualityAndInvalidItemThenReturnFalse() {
+        assertFalse(Chain.membership(Arrays.asList(1, 2, 3)).contains(4));
+    }
+
+    @Test
+    public void containsWithNullItemThenReturnFalse() {
+        assertFalse(Chain.membership(Arrays.asList(1, null)).contains(null));
+    }
+
+    @Test
+    public void containsWithNullCollectionThenReturnFalse() {
+        assertFalse(Chain.membership((Collection<Integer>) null).contains(1));
+    }
+
+    @Test
+    public void containsWithEmptySetThenUseThePassedSet() {
+        Set<Integer> items = new HashSet<>();
+        Membership<Integer> membership = Chain.membership(items);
+        items.add(1);
+        assertTrue(membership.contains(1));
+    }
+
+    @Test
+    public void containsWithComparableItemsThenCompareThroughEquals() {
+        Membership<BigDecimal> membership =
+                Chain.membership(Arrays.asList(new BigDecimal("1.0")));
+        assertTrue(membership.contains(new BigDecimal("1.0"))
+                && !membership.contains(new BigDecimal("1.00")));
+    }
+
+    @Test
+    public void containsWithEnumItemsThenReturnValidResults() {
+        Membership<TimeUnit> membership =
+                Chain.membership(Arrays.asList(TimeUnit.SECONDS, TimeUnit.MINUTES));
+        assertTrue(membership.contains(TimeUnit.SECONDS) && !membership.contains(TimeUnit.HOURS));
+    }
+
+    @Test
+    public void containsWithMixedItemsThenReturnValidResults() {
+        Membership<Object> membership =
+                Chain.membership(Arrays.<Object>asList(TimeUnit.SECONDS, 1));
+        assertTrue(membership.contains(1) && membership.contains(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void containsWithBiPredicateThenScanThroughTheBiPredicate() {
+        Membership<String> membership = Chain.membership(Arrays.asList("A", "B"),
+                new BiPredicate<String, String>() {
+                    @Override
+                    public boolean test(String item, String collectionItem) {
+                        return item.equalsIgnoreCase(collectionItem);
+                    }
+                });
+        assertTrue(membership.contains("a") && !membership.contains("c"));
+    }
+
+    @Test
+    public void containsWithSortedMembershipThenReturnValidResults() {
+        Membership<Long> membership = Chain.sortedMembership(Arrays.asList(30L, 10L, null, 20L));
+        assertTrue(membership.contains(20L) && !membership.contains(25L));
+    }
+
+    @Test
+    public void containsWithSortedMembershipAndComparatorThenUseTheComparator() {
+        Membership<String> membership = Chain.sortedMembership(Arrays.asList("b", "A"),
+                new Comparator<String>() {
+                    @Override
+                    public int compare(String left, String right) {
+                        return left.compareToIgnoreCase(right);
+                    }
+                });
+        assertTrue(membership.contains("a") && membership.contains("B"));
+    }
+}
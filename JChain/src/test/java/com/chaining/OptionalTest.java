@@ -3,6 +3,7 @@ package com.chaining;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.NoSuchElementException;
 import java.util.concurrent.Callable;
 
@@ -505,6 +506,76 @@ public class OptionalTest {
         assertFalse(result);
     }
 
+    @Test
+    public void whenInSortedWithValidCollectionThenReturnValidCondition() {
+        boolean result = Chain.optional(20L)
+                .whenInSorted(Arrays.asList(30L, 10L, 20L), new Comparator<Long>() {
+                    @Override
+                    public int compare(Long left, Long right) {
+                        return left.compareTo(right);
+                    }
+                })
+                .thenTo(true)
+                .defaultIfEmpty(false)
+                .call();
+
+        assertTrue(result);
+    }
+
+    @Test
+    public void whenNotInSortedWithInValidCollectionThenReturnValidCondition() {
+        boolean result = Chain.optional(20L)
+                .whenNotInSorted(Arrays.asList(30L, 10L), new Comparator<Long>() {
+                    @Override
+                    public int compare(Long left, Long right) {
+                        return left.compareTo(right);
+                    }
+                })
+                .thenTo(true)
+                .defaultIfEmpty(false)
+                .call();
+
+        assertTrue(result);
+    }
+
+    @Test
+    public void whenNotInSortedWithNullItemThenReturnInValidCondition() {
+        boolean result = Chain.optional((Long) null)
+                .whenNotInSorted(Arrays.asList(30L, 10L), new Comparator<Long>() {
+                    @Override
+                    public int compare(Long left, Long right) {
+                        return left.compareTo(right);
+                    }
+                })
+                .thenTo(true)
+                .defaultIfEmpty(false)
+                .call();
+
+        assertFalse(result);
+    }
+
+    @Test
+    public void whenInWithMembershipHoldingItemThenReturnValidCondition() {
+        boolean result = Chain.optional(0)
+                .whenIn(Chain.membership(Arrays.asList(0, 1, 2)))
+                .thenTo(true)
+                .defaultIfEmpty(false)
+                .call();
+
+        assertTrue(result);
+    }
+
+    @Test
+    public void whenNotInWithMembershipAndNullItemThenReturnInValidCondition() {
+        boolean result = Chain.optional((Integer) null)
+                .whenNotIn(Chain.membership(Arrays.asList(0, 1, 2)))
+                .thenTo(true)
+                .defaultIfEmpty(false)
+                .call();
+
+        assertFalse(result);
+    }
+
     @Test
     public void whenNotInWithNullItemThenReturnInValidCondition() {
 
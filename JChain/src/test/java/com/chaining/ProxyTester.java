@@ -30,6 +30,11 @@ public class ProxyTester<S extends Internal<S, T>, T> implements Action {
         assertTrue("copyWithNewItem", copyWithNewItem());
         assertTrue("copyWithNewItemAndConfiguration", copyWithNewItemAndConfiguration());
         assertTrue("owner", owner());
+        assertTrue("sameProxy", sameProxy());
+    }
+
+    private boolean sameProxy() {
+        return owner.access() == target;
     }
 
     private boolean owner() {